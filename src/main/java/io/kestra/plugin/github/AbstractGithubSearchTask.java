@@ -1,20 +1,42 @@
 package io.kestra.plugin.github;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.github.client.GithubClientPool;
+import io.kestra.plugin.github.client.GithubGraphqlClient;
+import io.kestra.plugin.github.client.GithubRateLimiter;
+import io.kestra.plugin.github.client.GraphqlNodeResolver;
+import io.kestra.plugin.github.client.GraphqlUserResolver;
+import io.kestra.plugin.github.client.PrefetchingGitHubConnector;
+import io.kestra.plugin.github.client.RawSearchConnector;
+import io.kestra.plugin.github.client.UserProfileCache;
+import io.kestra.plugin.github.model.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.kohsuke.github.GHObject;
+import org.kohsuke.github.PagedSearchIterable;
+import org.kohsuke.github.connector.GitHubConnector;
 
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -23,6 +45,9 @@ import io.kestra.core.models.annotations.PluginProperty;
 @Getter
 @NoArgsConstructor
 public abstract class AbstractGithubSearchTask extends AbstractGithubTask {
+    protected static final int MAX_PAGE_SIZE = 100;
+    private static final ObjectMapper ION_MAPPER = JacksonMapper.ofIon();
+
     @Schema(
         title = "Result handling mode",
         description = "Controls how hits are exposed in outputs; default `FETCH` returns all hits in the response. `FETCH_ONE` returns only the first hit, `STORE` writes hits to Kestra storage and returns a URI, and `NONE` leaves outputs empty."
@@ -31,47 +56,457 @@ public abstract class AbstractGithubSearchTask extends AbstractGithubTask {
     @PluginProperty(group = "execution")
     protected Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
 
+    @Schema(
+        title = "Maximum rows returned with `fetchType: FETCH`",
+        description = """
+            Rows returned in the task output go through the Kestra executor. Once more rows than this are read, the task switches to \
+            `STORE` while streaming: the rows go to internal storage with the `STORE` options and the output holds their `uri` instead \
+            of `rows`. A warning is logged and the `fetch.spilled` metric is reported. Unset by default.\
+            """
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> fetchMaxRows;
+
+    @Schema(
+        title = "Maximum size in bytes of the rows returned with `fetchType: FETCH`",
+        description = "Same as `fetchMaxRows`, for the size of the rows serialized to Ion. Unset by default."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Long> fetchMaxBytes;
+
+    @Schema(
+        title = "Search API requests per minute",
+        description = """
+            The search API has its own quota, separate from the core one: 30 requests per minute when authenticated, 10 when anonymous, \
+            and 10 for code search. Pagination is paced to stay under it instead of failing mid-way; the time spent waiting is reported \
+            as the `ratelimit.wait` metric. Defaults to the github.com quotas, override it for GitHub Enterprise Server instances with custom limits.\
+            """
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Integer> searchRequestsPerMinute;
+
+    @Schema(
+        title = "Maximum number of hits",
+        description = "Stops the pagination as soon as this many hits have been read, so no further page is requested. Leave unset to read every hit returned by GitHub."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxResults;
+
+    @Schema(
+        title = "Hits per page",
+        description = "Number of hits requested per API call (`per_page`), up to 100. Larger pages mean fewer round-trips; when `maxResults` is smaller, it is used as the page size. Defaults to the GitHub default of 30."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> pageSize;
+
+    @Schema(
+        title = "Output columns",
+        description = """
+            Only these columns are written to the output. The other ones are not computed at all, which avoids the extra API calls some \
+            of them need for every hit, such as `pull_request_count` for repositories, `base`, `head`, `requested_reviewers` or \
+            `closed_by` for pull requests, `lines_changed` or `last_status` for commits. Defaults to all columns.\
+            """
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> properties;
+
+    @Schema(
+        title = "Maximum rows per stored file",
+        description = """
+            With `fetchType: STORE`, splits the output in files of at most this many rows, listed in the `uris` output. Each file is \
+            uploaded to internal storage as soon as it is full, so downstream tasks such as `ForEachItem` can process them, when not compressed, without \
+            re-splitting one large file.\
+            """
+    )
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxRowsPerFile;
+
+    @Schema(
+        title = "Column to partition the stored files by",
+        description = """
+            With `fetchType: STORE`, writes the rows of each value of this output column, e.g. `repository_name`, to their own files, \
+            listed by value in the `partitions` output and all together in `uris`. Can be combined with `maxRowsPerFile`. At most 16 \
+            partitions are filled at the same time: past that, the file of the least recently written one is uploaded and its next rows \
+            go to a new file, so a column with many values such as `author` gives more files rather than exhausting the worker.\
+            """
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> partitionBy;
+
+    @Schema(
+        title = "Compression of the stored files, requires a decompress step before any Kestra reader",
+        description = """
+            With `fetchType: STORE`, compresses the Ion files while they are written: `GZIP` (`.ion.gz`) or `ZSTD` (`.ion.zst`). \
+            Kestra readers of Ion files, such as the `io.kestra.plugin.serdes` conversion tasks, `ForEachItem` or the `read()` function, \
+            do not decompress them and fail on the compressed bytes: add a step decompressing the files, e.g. a script running `gunzip` \
+            or `zstd -d`, before any of them, or keep `NONE` when the output is read in the flow. The sizes before and after compression \
+            are reported as the `store.bytes.uncompressed` and `store.bytes.compressed` metrics. For columnar files, convert the \
+            uncompressed Ion output with the `io.kestra.plugin.serdes.parquet.IonToParquet` task. Defaults to `NONE`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Compression> compression = Property.ofValue(Compression.NONE);
+
+    @Schema(
+        title = "Write the search items as returned by GitHub",
+        description = """
+            Copies the `items` of the search API responses straight to the output file, token by token, instead of mapping each hit \
+            to the columns of the task. Much faster and lighter for bulk exports, but the rows keep the GitHub REST field names and \
+            JSON types, and columns computed with extra API calls are not available. Requires `fetchType: STORE`; `properties`, `maxRowsPerFile`, `partitionBy`, \
+            `enrichment`, `enrichmentConcurrency` and `shardBy` are ignored, and the `incremental` mark is not moved. Not supported by \
+            `topics.Search` and `projects.List`, which do not go through the search API.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> raw = Property.ofValue(false);
+
+    @Schema(
+        title = "Pages fetched in parallel",
+        description = """
+            Once the first page tells how many pages the search has, the next ones are requested concurrently on virtual threads, \
+            at most this many ahead of the page being read, requested or buffered, so memory stays bounded by the page size. Requests still \
+            go through the rate limiter, and hits are returned in the same order as a sequential pagination. Pages still outstanding when the \
+            task stops reading, e.g. at `maxResults`, are cancelled. `1` fetches the pages one after the other. Not supported by \
+            `topics.Search` and `projects.List`, whose pages are read one after the other.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageConcurrency = Property.ofValue(1);
+
+    @Schema(
+        title = "Hits mapped in parallel",
+        description = """
+            Maximum number of hits mapped to output rows at the same time, on virtual threads. Useful when some columns need extra API \
+            calls for every hit, e.g. the commit statistics or the user profiles; the calls still go through the rate limiter. Rows are \
+            written in the order of the hits, and the first failure fails the task. `1` maps the hits one after the other.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> enrichmentConcurrency = Property.ofValue(1);
+
+    @Override
+    protected GitHubConnector decorate(GitHubConnector connector, RunContext runContext) throws Exception {
+        var rPageConcurrency = runContext.render(this.pageConcurrency).as(Integer.class).orElse(1);
+        var rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.STORE);
+
+        if (rPageConcurrency > 1 && rFetchType != FetchType.FETCH_ONE && rFetchType != FetchType.NONE) {
+            // never prefetch pages beyond maxResults
+            var rMaxResults = runContext.render(this.maxResults).as(Integer.class).orElse(null);
+
+            connector = new PrefetchingGitHubConnector(connector, clientKey(runContext).endpoint(), rPageConcurrency, rMaxResults, runContext);
+        }
+
+        if (isRaw(runContext)) {
+            connector = new RawSearchConnector(connector, clientKey(runContext).endpoint());
+        }
+
+        return connector;
+    }
+
+    protected boolean isRaw(RunContext runContext) throws Exception {
+        return runContext.render(this.raw).as(Boolean.class).orElse(false);
+    }
+
+    @Override
+    protected GithubRateLimiter rateLimiter(RunContext runContext) throws Exception {
+        var rateLimiter = super.rateLimiter(runContext);
+        var anonymous = clientKey(runContext).credentials().equals(GithubClientPool.fingerprint(null, null, null, null));
+        var rSearchRequestsPerMinute = runContext.render(this.searchRequestsPerMinute).as(Integer.class);
+
+        rateLimiter.limit(GithubRateLimiter.SEARCH, rSearchRequestsPerMinute.orElse(anonymous ? 10 : 30));
+        rateLimiter.limit(GithubRateLimiter.CODE_SEARCH, rSearchRequestsPerMinute.orElse(10));
+
+        return rateLimiter;
+    }
+
+    protected Fields resolveFields(RunContext runContext) throws Exception {
+        return Fields.of(runContext.render(this.properties).asList(String.class));
+    }
+
+    /**
+     * Page size to request, bounded by {@code maxResults} and by the GitHub maximum of 100.
+     */
+    protected Optional<Integer> resolvePageSize(RunContext runContext) throws Exception {
+        var rPageSize = runContext.render(this.pageSize).as(Integer.class);
+        var rMaxResults = runContext.render(this.maxResults).as(Integer.class);
+
+        return rPageSize
+            .map(size -> rMaxResults.map(max -> Math.min(max, size)).orElse(size))
+            .or(() -> rMaxResults.filter(max -> max < MAX_PAGE_SIZE))
+            .map(size -> Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Paginates a search with the configured {@code pageSize} and {@code maxResults}, and reports the number of pages
+     * fetched and the total hits in the output.
+     */
+    protected <T> Output handleFetch(RunContext runContext, PagedSearchIterable<T> results, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        return handleFetch(runContext, results, null, mapper, fetchType);
+    }
+
+    /**
+     * Same as {@link #handleFetch(RunContext, PagedSearchIterable, Function, FetchType)}, handing each page to
+     * {@code onPage} before its hits are mapped, e.g. to enrich them in batch.
+     */
+    protected <T> Output handleFetch(RunContext runContext, PagedSearchIterable<T> results, Consumer<List<T>> onPage, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        var rMaxResults = fetchType == FetchType.FETCH_ONE ? Optional.of(1) : runContext.render(this.maxResults).as(Integer.class);
+        var rPageSize = fetchType == FetchType.FETCH_ONE ? Optional.of(1) : resolvePageSize(runContext);
+
+        var paged = new PagedResults<>(results, rPageSize.orElse(null), rMaxResults.orElse(null), onPage);
+
+        try {
+            if (isRaw(runContext)) {
+                return rawFetch(runContext, paged, rMaxResults.orElse(null), fetchType);
+            }
+
+            var output = fetch(runContext, paged, mapper, fetchType)
+                .pages(paged.getPages())
+                .total(paged.getTotal())
+                .build();
+
+            if (paged.getDuplicates() > 0) {
+                runContext.logger().warn("{} hits returned twice by the search were dropped, the results moved during the pagination", paged.getDuplicates());
+            }
+            synchronized (runContext) {
+                runContext.metric(Counter.of("search.duplicates", paged.getDuplicates()));
+            }
 
-    protected <T> Output handleFetch(RunContext runContext, List<T> results, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+            return output;
+        } finally {
+            // the paginator is done, also when it stopped before the last page or failed
+            PrefetchingGitHubConnector.release();
+        }
+    }
+
+    /**
+     * Lets the {@link RawSearchConnector} copy the search items to the output file while the paginator only sees a
+     * page without items.
+     */
+    private Output rawFetch(RunContext runContext, PagedResults<?> paged, Integer maxResults, FetchType fetchType) throws Exception {
+        if (fetchType != FetchType.STORE) {
+            throw new IllegalArgumentException("`raw` requires `fetchType: STORE`, got " + fetchType);
+        }
+
+        var rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
+
+        try (var store = new StoreWriter(runContext, null, null, rCompression)) {
+            var result = RawSearchConnector.export(store.stream(), maxResults, () -> paged.iterator().hasNext());
+            store.complete();
+
+            return Output.builder()
+                .uri(store.getUris().getFirst())
+                .size(result.size())
+                .pages(result.pages())
+                .total(result.total())
+                .build();
+        }
+    }
+
+    /**
+     * GraphQL client sending its queries through the rate limiter of this run, {@code null} for anonymous runs since
+     * GraphQL requires authentication.
+     */
+    protected GithubGraphqlClient graphqlClient(final RunContext runContext) throws Exception {
+        var authorization = resolveAuthorizationHeader(runContext);
+        if (authorization == null) {
+            return null;
+        }
+
+        return new GithubGraphqlClient(runContext, clientKey(runContext).endpoint(), authorization, rateLimiter(runContext));
+    }
+
+    /**
+     * Batch resolver of user profiles backed by the worker {@link UserProfileCache}, {@code null} for anonymous runs.
+     *
+     * @param maxAge the maximum age of a cached profile
+     */
+    protected GraphqlUserResolver userResolver(final RunContext runContext, final Duration maxAge) throws Exception {
+        var client = graphqlClient(runContext);
+        if (client == null) {
+            return null;
+        }
+
+        return new GraphqlUserResolver(client, runContext, UserProfileCache.getInstance(), clientKey(runContext), maxAge);
+    }
+
+    /**
+     * Batch resolver of the fields missing from the search hits, {@code null} when they must be loaded with the lazy
+     * REST getters: {@code REST} enrichment, or anonymous runs since GraphQL requires authentication.
+     *
+     * @param selection the fields to select on each node, see {@link GraphqlNodeResolver}
+     */
+    protected GraphqlNodeResolver nodeResolver(RunContext runContext, Enrichment enrichment, String selection) throws Exception {
+        if (enrichment != Enrichment.GRAPHQL) {
+            return null;
+        }
+
+        var client = graphqlClient(runContext);
+        if (client == null) {
+            runContext.logger().warn("GraphQL enrichment requires authentication, falling back to REST");
+            return null;
+        }
+
+        return new GraphqlNodeResolver(client, runContext, selection);
+    }
+
+    /**
+     * Runs several searches concurrently, at most {@code concurrency} at a time, and merges their hits into a single
+     * output in the order of {@code queries}. A hit matching several queries is returned once for each of them.
+     *
+     * @param search builds the search of a query
+     * @param mapper maps a hit with the query that returned it
+     */
+    protected <T extends GHObject> Output handleBatchFetch(RunContext runContext, List<String> queries, Function<String, PagedSearchIterable<T>> search, Consumer<List<T>> onPage, BiFunction<String, T, Map<String, Object>> mapper, int concurrency, FetchType fetchType) throws Exception {
+        if (isRaw(runContext)) {
+            throw new IllegalArgumentException("`raw` cannot merge the results of several queries");
+        }
+
+        var rPageSize = resolvePageSize(runContext).orElse(MAX_PAGE_SIZE);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var batch = new ShardedResults<>(search, queries, rPageSize, onPage, concurrency, executor, false);
+            Iterable<ShardedResults.Hit<T>> hits = batch.hits();
+            Output output;
+            try {
+                output = handleFetch(runContext, hits, hit -> mapper.apply(hit.qualifier(), hit.value()), fetchType);
+            } finally {
+                // don't wait for queries fetched ahead once maxResults is reached or the consumer failed
+                executor.shutdownNow();
+            }
+
+            synchronized (runContext) {
+                runContext.metric(Counter.of("search.duplicates", batch.getDuplicates()));
+            }
+
+            return output.toBuilder()
+                .pages(batch.getPages())
+                .total(batch.getTotal())
+                .build();
+        }
+    }
+
+    /**
+     * Maps and exposes the hits, reading at most {@code maxResults} of them. {@code results} is iterated lazily, so
+     * when it is a paged iterable the {@code STORE} mode writes each page to the Ion file as it arrives and never holds
+     * more than one page in memory.
+     */
+    protected <T> Output handleFetch(RunContext runContext, Iterable<T> results, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        var rMaxResults = runContext.render(this.maxResults).as(Integer.class);
+        Iterable<T> limited = rMaxResults.isEmpty() ? results : () -> StreamSupport.stream(results.spliterator(), false)
+            .limit(rMaxResults.get())
+            .iterator();
+
+        return fetch(runContext, limited, mapper, fetchType).build();
+    }
 
-        List<Map<String, Object>> mapped = results.stream()
-            .map(mapper)
-            .toList();
+    private <T> Output.OutputBuilder fetch(RunContext runContext, Iterable<T> results, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        var rEnrichmentConcurrency = runContext.render(this.enrichmentConcurrency).as(Integer.class).orElse(1);
+        if (rEnrichmentConcurrency <= 1 || fetchType == FetchType.FETCH_ONE || fetchType == FetchType.NONE) {
+            return write(runContext, results, mapper, fetchType);
+        }
 
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                return write(runContext, new MappedResults<>(results, mapper, rEnrichmentConcurrency, executor), Function.identity(), fetchType);
+            } finally {
+                // don't wait for the hits still being mapped after a failure
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private <T> Output.OutputBuilder write(RunContext runContext, Iterable<T> results, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
         switch (fetchType) {
             case FETCH:
+                var rFetchMaxRows = runContext.render(this.fetchMaxRows).as(Integer.class).orElse(null);
+                var rFetchMaxBytes = runContext.render(this.fetchMaxBytes).as(Long.class).orElse(null);
+
+                List<Map<String, Object>> mapped = new ArrayList<>();
+                long bytes = 0;
+                Iterator<T> remaining = results.iterator();
+
+                while (remaining.hasNext()) {
+                    var row = mapper.apply(remaining.next());
+                    mapped.add(row);
+
+                    if (rFetchMaxBytes != null) {
+                        bytes += ION_MAPPER.writeValueAsBytes(row).length;
+                    }
+
+                    // checked while reading, so an oversized output is never fully held in memory
+                    if ((rFetchMaxRows != null && mapped.size() > rFetchMaxRows) || (rFetchMaxBytes != null && bytes > rFetchMaxBytes)) {
+                        runContext.logger().warn(
+                            "The output exceeds the FETCH budget (fetchMaxRows={}, fetchMaxBytes={}) after {} rows, switching to STORE",
+                            rFetchMaxRows, rFetchMaxBytes, mapped.size()
+                        );
+                        synchronized (runContext) {
+                            runContext.metric(Counter.of("fetch.spilled", 1));
+                        }
+
+                        var rows = Stream.concat(
+                            mapped.stream(),
+                            StreamSupport.stream(Spliterators.spliteratorUnknownSize(remaining, Spliterator.ORDERED), false).map(mapper)
+                        );
+                        return store(runContext, rows.iterator());
+                    }
+                }
+
                 return Output.builder()
                     .rows(mapped)
-                    .size(mapped.size())
-                    .build();
+                    .size(mapped.size());
 
             case FETCH_ONE:
+                Iterator<T> iterator = results.iterator();
+                Map<String, Object> first = iterator.hasNext() ? mapper.apply(iterator.next()) : null;
+
                 return Output.builder()
-                    .row(mapped.isEmpty() ? null : mapped.getFirst())
-                    .size(mapped.isEmpty() ? 0 : 1)
-                    .build();
+                    .row(first)
+                    .size(first == null ? 0 : 1);
 
             case STORE:
-                File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+                return store(runContext, StreamSupport.stream(results.spliterator(), false).map(mapper).iterator());
 
-                try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+            default:
+                return Output.builder().size(0);
+        }
+    }
 
-                    for (Map<String, Object> item : mapped) {
-                        FileSerde.write(output, item);
-                    }
-                }
+    private Output.OutputBuilder store(RunContext runContext, Iterator<Map<String, Object>> rows) throws Exception {
+        var rMaxRowsPerFile = runContext.render(this.maxRowsPerFile).as(Integer.class).orElse(null);
+        var rPartitionBy = runContext.render(this.partitionBy).as(String.class).orElse(null);
+        var rCompression = runContext.render(this.compression).as(Compression.class).orElse(Compression.NONE);
 
-                return Output.builder()
-                    .uri(runContext.storage().putFile(tempFile))
-                    .size(mapped.size())
-                    .build();
+        try (var store = new StoreWriter(runContext, rMaxRowsPerFile, rPartitionBy, rCompression)) {
+            while (rows.hasNext()) {
+                store.write(rows.next());
+            }
+            store.complete();
 
-            default:
-                return Output.builder().size(0).build();
+            var uris = store.getUris();
+            return Output.builder()
+                .uri(store.isSplit() ? null : uris.getFirst())
+                .uris(store.isSplit() ? uris : null)
+                .partitions(store.getPartitions())
+                .size(store.getSize());
         }
     }
 
-        @Builder
+    public enum Enrichment {
+        REST,
+        GRAPHQL
+    }
+
+    public enum Compression {
+        NONE,
+        GZIP,
+        ZSTD
+    }
+
+        @Builder(toBuilder = true)
         @Getter
         public static class Output implements io.kestra.core.models.tasks.Output {
             @Schema(
@@ -86,6 +521,12 @@ public abstract class AbstractGithubSearchTask extends AbstractGithubTask {
             )
             private Long total;
 
+            @Schema(
+                title = "Fetched pages",
+                description = "Number of result pages requested from the GitHub search API."
+            )
+            private Integer pages;
+
             @Schema(
                 title = "Fetched hits",
                 description = "Available only when `fetchType=FETCH`; contains hit sources for the current response page."
@@ -103,5 +544,17 @@ public abstract class AbstractGithubSearchTask extends AbstractGithubTask {
                 description = "Available only when `fetchType=STORE`; Kestra internal storage path to the Ion file."
             )
             private URI uri;
+
+            @Schema(
+                title = "Stored files URIs",
+                description = "Available only when `fetchType=STORE` with `maxRowsPerFile` or `partitionBy`; Kestra internal storage paths to the Ion files, in the order they were created, i.e. of their first row. With `partitionBy`, the files of the different values are interleaved; `partitions` lists them by value."
+            )
+            private List<URI> uris;
+
+            @Schema(
+                title = "Stored files URIs by partition",
+                description = "Available only when `fetchType=STORE` with `partitionBy`; Kestra internal storage paths to the Ion files of each value of the column."
+            )
+            private Map<String, List<URI>> partitions;
         }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package io.kestra.plugin.github;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.kohsuke.github.GHObject;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Base of the searches that can be split in date ranges to get past the 1000 hits returned by a GitHub search.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractGithubShardedSearchTask extends AbstractGithubIncrementalSearchTask {
+    @Schema(
+        title = "Date qualifier to shard large searches on",
+        description = """
+            GitHub search returns at most 1000 hits per query. When the search reports more, it is split in `created:` (or `updated:`) date \
+            ranges, halved until each range fits, and the ranges are fetched concurrently then merged into a single output without duplicates. \
+            Hits are returned range by range, oldest first, each range in the requested sort. Finding the ranges costs one search request \
+            per range probed, sent one after the other before any hit is fetched: about twice the number of shards, each counting against \
+            the search quota. Avoid combining it with your own qualifier on the same date. \
+            `UPDATED` cannot be combined with `incremental`, which adds its own `updated:` qualifier.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<ShardBy> shardBy = Property.ofValue(ShardBy.NONE);
+
+    @Schema(
+        title = "Shards fetched in parallel",
+        description = "Maximum number of date range shards fetched at the same time when `shardBy` is set."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> shardConcurrency = Property.ofValue(4);
+
+    /**
+     * Runs a search that may be sharded by date range to get past the 1000 hits cap, see {@code shardBy}.
+     *
+     * @param search builds a new search, with the given additional qualifier when not {@code null}
+     */
+    protected <T extends GHObject> Output handleShardedFetch(RunContext runContext, Function<String, PagedSearchIterable<T>> search, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        return handleShardedFetch(runContext, search, null, mapper, fetchType);
+    }
+
+    /**
+     * Same as {@link #handleShardedFetch(RunContext, Function, Function, FetchType)}, handing each page to
+     * {@code onPage} before its hits are mapped. Pages of different shards can be handed concurrently.
+     */
+    protected <T extends GHObject> Output handleShardedFetch(RunContext runContext, Function<String, PagedSearchIterable<T>> search, Consumer<List<T>> onPage, Function<T, Map<String, Object>> mapper, FetchType fetchType) throws Exception {
+        var rShardBy = runContext.render(this.shardBy).as(ShardBy.class).orElse(ShardBy.NONE);
+        // both would add an updated: qualifier, and GitHub only applies one of them
+        if (rShardBy == ShardBy.UPDATED && isIncremental(runContext)) {
+            throw new IllegalArgumentException("`shardBy: UPDATED` cannot be combined with `incremental`, shard by `CREATED` instead");
+        }
+
+        if (rShardBy == ShardBy.NONE || fetchType == FetchType.FETCH_ONE || fetchType == FetchType.NONE || isRaw(runContext)) {
+            return handleFetch(runContext, search.apply(null), onPage, mapper, fetchType);
+        }
+
+        var field = rShardBy.name().toLowerCase();
+        var qualifiers = ShardedResults.split(
+            search,
+            field,
+            ShardedResults.EPOCH,
+            Instant.now().truncatedTo(ChronoUnit.SECONDS),
+            qualifier -> runContext.logger().warn("More than {} hits for '{}', only the first ones are returned", ShardedResults.SEARCH_RESULTS_CAP, qualifier)
+        );
+
+        if (qualifiers.size() > 1) {
+            runContext.logger().info("Search split in {} shards by '{}' date", qualifiers.size(), field);
+        }
+        synchronized (runContext) {
+            runContext.metric(Counter.of("search.shards", qualifiers.size()));
+        }
+
+        var rShardConcurrency = runContext.render(this.shardConcurrency).as(Integer.class).orElse(4);
+        var rPageSize = resolvePageSize(runContext).orElse(MAX_PAGE_SIZE);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var sharded = new ShardedResults<>(search, qualifiers, rPageSize, onPage, rShardConcurrency, executor);
+            Output output;
+            try {
+                output = handleFetch(runContext, sharded, mapper, fetchType);
+            } finally {
+                // don't wait for shards fetched ahead once maxResults is reached or the consumer failed
+                executor.shutdownNow();
+            }
+
+            synchronized (runContext) {
+                runContext.metric(Counter.of("search.duplicates", sharded.getDuplicates()));
+            }
+
+            return output.toBuilder()
+                .pages(sharded.getPages())
+                .total(sharded.getTotal())
+                .build();
+        }
+    }
+
+    public enum ShardBy {
+        NONE,
+        CREATED,
+        UPDATED
+    }
+}
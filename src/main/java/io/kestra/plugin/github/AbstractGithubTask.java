@@ -4,13 +4,26 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import io.kestra.plugin.github.client.CachingGitHubConnector;
+import io.kestra.plugin.github.client.GithubClientPool;
+import io.kestra.plugin.github.client.GithubRateLimiter;
+import io.kestra.plugin.github.client.KvResponseCache;
+import io.kestra.plugin.github.client.MemoryResponseCache;
+import io.kestra.plugin.github.client.PooledHttpConnector;
+import io.kestra.plugin.github.client.RateLimitingGitHubConnector;
 import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubAbuseLimitHandler;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.GitHubRateLimitHandler;
+import org.kohsuke.github.connector.GitHubConnector;
+
+import java.util.function.UnaryOperator;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -57,6 +70,20 @@ public abstract class AbstractGithubTask extends Task {
     @PluginProperty(group = "connection")
     private Property<String> endpoint;
 
+    @Schema(
+        title = "Conditional request cache",
+        description = """
+            Stores `ETag` / `Last-Modified` validators of GET responses and revalidates them with `If-None-Match` / `If-Modified-Since`; \
+            `304 Not Modified` answers are replayed from the cache and do not count against the GitHub primary rate limit. \
+            `MEMORY` (default) keeps a bounded LRU cache shared by the tasks of the worker, `KV` persists it in the KV store of the flow namespace, \
+            and `NONE` disables it. Search results are never cached, their pages are streamed instead of being kept in memory. \
+            Hits, misses and revalidations are reported as `cache.*` metrics.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<ResponseCacheType> responseCache = Property.ofValue(ResponseCacheType.MEMORY);
+
     protected Property<String> oauthTokenProperty() {
         return oauthToken;
     }
@@ -91,22 +118,109 @@ public abstract class AbstractGithubTask extends Task {
         throw new IllegalStateException("No GitHub token configured: set oauthToken, appInstallationToken, or jwtToken");
     }
 
+    /**
+     * {@code Authorization} header for raw HTTP calls to the GitHub API, {@code null} when running anonymously.
+     */
+    protected String resolveAuthorizationHeader(RunContext runContext) throws Exception {
+        var rAppInstallationToken = runContext.render(this.appInstallationToken).as(String.class);
+        if (rAppInstallationToken.isPresent()) {
+            return "token " + rAppInstallationToken.orElseThrow();
+        }
+
+        var rJwtToken = runContext.render(this.jwtToken).as(String.class);
+        if (rJwtToken.isPresent()) {
+            return "Bearer " + rJwtToken.orElseThrow();
+        }
+
+        return runContext.render(this.oauthToken).as(String.class)
+            .map(token -> "token " + token)
+            .orElse(null);
+    }
+
+    protected GithubClientPool.Key clientKey(final RunContext runContext) throws Exception {
+        return new GithubClientPool.Key(
+            runContext.render(this.endpoint).as(String.class).orElse("https://api.github.com"),
+            GithubClientPool.fingerprint(
+                runContext.render(this.login).as(String.class).orElse(null),
+                runContext.render(this.oauthToken).as(String.class).orElse(null),
+                runContext.render(this.jwtToken).as(String.class).orElse(null),
+                runContext.render(this.appInstallationToken).as(String.class).orElse(null)
+            )
+        );
+    }
+
+    /**
+     * Rate limiter shared by every execution on this worker using the same endpoint and credentials. Tasks calling
+     * the GitHub API through a raw {@link io.kestra.core.http.client.HttpClient} must send their requests through it.
+     */
+    protected GithubRateLimiter rateLimiter(final RunContext runContext) throws Exception {
+        return GithubRateLimiter.of(clientKey(runContext));
+    }
+
+    /**
+     * Hook to wrap the connector of this run, outside the response cache and the rate limiter.
+     */
+    protected GitHubConnector decorate(final GitHubConnector connector, final RunContext runContext) throws Exception {
+        return connector;
+    }
+
     protected GitHub connect(final RunContext runContext) throws Exception {
-        GitHubBuilder builder = new GitHubBuilder();
-
-        if (this.login != null && this.oauthToken != null) {
-            builder.withOAuthToken(
-                runContext.render(this.oauthToken).as(String.class).orElseThrow(),
-                runContext.render(this.login).as(String.class).orElseThrow()
-            );
-        } else {
-            runContext.render(this.oauthToken).as(String.class).ifPresent(builder::withOAuthToken);
+        return connect(runContext, UnaryOperator.identity());
+    }
+
+    /**
+     * Same as {@link #connect(RunContext)}, wrapping the connector of this run with {@code decorator} inside
+     * {@link #decorate}, e.g. to keep a reference to a connector the task reads from afterwards.
+     */
+    protected GitHub connect(final RunContext runContext, final UnaryOperator<GitHubConnector> decorator) throws Exception {
+        var rLogin = runContext.render(this.login).as(String.class).orElse(null);
+        var rOauthToken = runContext.render(this.oauthToken).as(String.class).orElse(null);
+        var rJwtToken = runContext.render(this.jwtToken).as(String.class).orElse(null);
+        var rAppInstallationToken = runContext.render(this.appInstallationToken).as(String.class).orElse(null);
+
+        // connectors and rate limiters are shared across executions on the same worker, keyed by endpoint and credentials fingerprint
+        var key = clientKey(runContext);
+
+        GitHubConnector connector = new RateLimitingGitHubConnector(
+            GithubClientPool.getInstance().borrowing(key, PooledHttpConnector::new),
+            rateLimiter(runContext),
+            runContext
+        );
+
+        var rResponseCache = runContext.render(this.responseCache).as(ResponseCacheType.class).orElse(ResponseCacheType.NONE);
+        connector = switch (rResponseCache) {
+            case MEMORY -> new CachingGitHubConnector(connector, key.endpoint(), MemoryResponseCache.getInstance(), key.credentials(), runContext);
+            case KV -> new CachingGitHubConnector(connector, key.endpoint(), new KvResponseCache(runContext), key.credentials(), runContext);
+            case NONE -> connector;
+        };
+        connector = decorate(decorator.apply(connector), runContext);
+
+        // if GitHub still rejects a request, wait for the advertised reset instead of failing the task
+        GitHubBuilder builder = new GitHubBuilder()
+            .withEndpoint(key.endpoint())
+            .withConnector(connector)
+            .withRateLimitHandler(GitHubRateLimitHandler.WAIT)
+            .withAbuseLimitHandler(GitHubAbuseLimitHandler.WAIT);
+
+        if (rLogin != null && rOauthToken != null) {
+            builder.withOAuthToken(rOauthToken, rLogin);
+        } else if (rOauthToken != null) {
+            builder.withOAuthToken(rOauthToken);
         }
 
-        runContext.render(this.jwtToken).as(String.class).ifPresent(builder::withJwtToken);
-        runContext.render(this.appInstallationToken).as(String.class).ifPresent(builder::withAppInstallationToken);
-        runContext.render(this.endpoint).as(String.class).ifPresent(builder::withEndpoint);
+        if (rJwtToken != null) {
+            builder.withJwtToken(rJwtToken);
+        }
+        if (rAppInstallationToken != null) {
+            builder.withAppInstallationToken(rAppInstallationToken);
+        }
 
         return builder.build();
     }
+
+    public enum ResponseCacheType {
+        NONE,
+        MEMORY,
+        KV
+    }
 }
@@ -0,0 +1,108 @@
+package io.kestra.plugin.github;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * High-water mark of an incremental search, persisted in the KV store of the flow namespace between executions.
+ * <p>
+ * The search is narrowed with a date qualifier starting at the mark of the previous execution, and the most recent date
+ * among the hits read becomes the new mark once the output is written. When incremental mode is disabled, every method
+ * is a pass-through.
+ *
+ * @param <T> the type of the hits
+ */
+public class Incremental<T> {
+    private final RunContext runContext;
+    private final KVStore kvStore;
+    private final String key;
+    private final String qualifier;
+    private final Instant previous;
+    private final Function<T, Instant> watermark;
+    private final AtomicReference<Instant> latest = new AtomicReference<>();
+
+    private Incremental(RunContext runContext, KVStore kvStore, String key, String qualifier, Instant previous, Function<T, Instant> watermark) {
+        this.runContext = runContext;
+        this.kvStore = kvStore;
+        this.key = key;
+        this.qualifier = qualifier;
+        this.previous = previous;
+        this.watermark = watermark;
+    }
+
+    static <T> Incremental<T> disabled() {
+        return new Incremental<>(null, null, null, null, null, null);
+    }
+
+    /**
+     * @param qualifier the qualifier prefix the previous mark is appended to, e.g. {@code updated:>=}
+     */
+    static <T> Incremental<T> of(RunContext runContext, String key, String qualifier, Function<T, Instant> watermark) throws Exception {
+        var kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        var previous = kvStore.getValue(key)
+            .map(value -> Instant.parse(value.value().toString()))
+            .orElse(null);
+
+        if (previous == null) {
+            runContext.logger().info("No watermark found in KV '{}', searching the full history", key);
+        } else {
+            runContext.logger().info("Searching hits since the watermark {}", previous);
+        }
+
+        return new Incremental<>(runContext, kvStore, key, qualifier, previous, watermark);
+    }
+
+    /**
+     * Narrows the search to the hits after the previous mark.
+     */
+    public Function<String, PagedSearchIterable<T>> search(Function<String, PagedSearchIterable<T>> search) {
+        if (previous == null) {
+            return search;
+        }
+
+        var since = qualifier + previous.truncatedTo(ChronoUnit.SECONDS);
+        return other -> search.apply(other == null ? since : since + " " + other);
+    }
+
+    /**
+     * Records the date of every mapped hit.
+     */
+    public Function<T, Map<String, Object>> track(Function<T, Map<String, Object>> mapper) {
+        if (watermark == null) {
+            return mapper;
+        }
+
+        return hit -> {
+            var date = watermark.apply(hit);
+            if (date != null) {
+                latest.accumulateAndGet(date, (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current);
+            }
+
+            return mapper.apply(hit);
+        };
+    }
+
+    /**
+     * Persists the new mark, to be called once the output was successfully written.
+     */
+    public AbstractGithubSearchTask.Output save(AbstractGithubSearchTask.Output output) throws Exception {
+        var mark = latest.get();
+        if (kvStore == null || mark == null || (previous != null && !mark.isAfter(previous))) {
+            return output;
+        }
+
+        kvStore.put(key, new KVValueAndMetadata(new KVMetadata("GitHub search watermark", null), mark.toString()));
+        runContext.logger().info("Watermark moved to {}", mark);
+
+        return output;
+    }
+}
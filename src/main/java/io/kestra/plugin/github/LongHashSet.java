@@ -0,0 +1,102 @@
+package io.kestra.plugin.github;
+
+import java.util.Arrays;
+
+/**
+ * Set of {@code long} values in a single open-addressing array, without boxing: 8 bytes per slot, so the ids of a
+ * 100k hits export take about 2 MB instead of the ~6 MB of a {@code HashSet<Long>}.
+ */
+class LongHashSet {
+    // 0 is never a GitHub id, so it marks the free slots; it is tracked apart to stay a valid value
+    private static final long FREE = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] slots;
+    private int size;
+    private boolean containsFree;
+
+    LongHashSet() {
+        this(1024);
+    }
+
+    LongHashSet(int expected) {
+        this.slots = new long[capacity(expected)];
+    }
+
+    /**
+     * @return {@code true} when the value was not already in the set
+     */
+    boolean add(long value) {
+        if (value == FREE) {
+            var added = !containsFree;
+            containsFree = true;
+            return added;
+        }
+
+        if (size + 1 > slots.length * LOAD_FACTOR) {
+            rehash(slots.length * 2);
+        }
+
+        if (!insert(slots, value)) {
+            return false;
+        }
+
+        size++;
+        return true;
+    }
+
+    boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+
+        var mask = slots.length - 1;
+        for (int index = mix(value) & mask; slots[index] != FREE; index = (index + 1) & mask) {
+            if (slots[index] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    int size() {
+        return size + (containsFree ? 1 : 0);
+    }
+
+    private static boolean insert(long[] slots, long value) {
+        var mask = slots.length - 1;
+        var index = mix(value) & mask;
+
+        while (slots[index] != FREE) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        var rehashed = new long[capacity];
+        Arrays.stream(slots).filter(value -> value != FREE).forEach(value -> insert(rehashed, value));
+        slots = rehashed;
+    }
+
+    private static int capacity(int expected) {
+        var capacity = Integer.highestOneBit(Math.max((int) (expected / LOAD_FACTOR), 16) - 1) << 1;
+        return Math.max(capacity, 16);
+    }
+
+    // ids are sequential, spread them over the table (murmur3 finalizer)
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+}
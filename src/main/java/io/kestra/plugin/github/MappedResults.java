@@ -0,0 +1,78 @@
+package io.kestra.plugin.github;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Hits mapped concurrently, for mappers that load extra resources from the API for every hit.
+ * <p>
+ * At most {@code concurrency} hits are mapped ahead of the consumer, and the mapped values are returned in the order of
+ * the hits. The first failure is rethrown to the consumer and the hits still being mapped are cancelled.
+ */
+class MappedResults<T, R> implements Iterable<R> {
+    private final Iterable<T> results;
+    private final Function<T, R> mapper;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    MappedResults(Iterable<T> results, Function<T, R> mapper, int concurrency, ExecutorService executor) {
+        this.results = results;
+        this.mapper = mapper;
+        this.concurrency = Math.max(concurrency, 1);
+        this.executor = executor;
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        Iterator<T> remaining = results.iterator();
+
+        return new Iterator<>() {
+            private final Deque<CompletableFuture<R>> running = new ArrayDeque<>();
+
+            @Override
+            public boolean hasNext() {
+                while (running.size() < concurrency && remaining.hasNext()) {
+                    var hit = remaining.next();
+                    running.add(CompletableFuture.supplyAsync(() -> mapper.apply(hit), executor));
+                }
+
+                return !running.isEmpty();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                try {
+                    return join(running.poll());
+                } catch (RuntimeException e) {
+                    running.forEach(future -> future.cancel(true));
+                    running.clear();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private R join(CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a search hit to be mapped", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Unable to map a search hit", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.kestra.plugin.github;
+
+import org.kohsuke.github.GHObject;
+import org.kohsuke.github.PagedIterator;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Page-by-page view over a {@link PagedSearchIterable} that requests at most {@code maxResults} hits and counts the
+ * pages actually fetched from the API. Each page is handed to {@code onPage}, when set, before its hits are returned.
+ * <p>
+ * Hits are sorted server side while the index changes, so an item can move to a later page between two requests and
+ * be returned twice: hits with an id are returned only once and the dropped ones are counted.
+ */
+class PagedResults<T> implements Iterable<T> {
+    private final PagedSearchIterable<T> iterable;
+    private final Integer maxResults;
+    private final Consumer<List<T>> onPage;
+    private int pages;
+    private long duplicates;
+
+    PagedResults(PagedSearchIterable<T> iterable, Integer pageSize, Integer maxResults) {
+        this(iterable, pageSize, maxResults, null);
+    }
+
+    PagedResults(PagedSearchIterable<T> iterable, Integer pageSize, Integer maxResults, Consumer<List<T>> onPage) {
+        // no need to request more hits per page than the caller wants in total
+        var effectivePageSize = maxResults != null && (pageSize == null || maxResults < pageSize) ? maxResults : pageSize;
+        this.iterable = effectivePageSize != null && effectivePageSize > 0 ? iterable.withPageSize(effectivePageSize) : iterable;
+        this.maxResults = maxResults;
+        this.onPage = onPage;
+    }
+
+    int getPages() {
+        return pages;
+    }
+
+    long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return the total hits reported by GitHub, or {@code null} when no page was fetched (asking for it would cost a request)
+     */
+    Long getTotal() {
+        return pages > 0 ? (long) iterable.getTotalCount() : null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        PagedIterator<T> pageIterator = iterable.iterator();
+
+        return new Iterator<>() {
+            private final LongHashSet seen = new LongHashSet();
+            private Iterator<T> page = Collections.emptyIterator();
+            private int returned;
+
+            @Override
+            public boolean hasNext() {
+                // check the bound first, so the next page is never requested once we have enough hits
+                if (maxResults != null && returned >= maxResults) {
+                    return false;
+                }
+
+                while (!page.hasNext()) {
+                    if (!pageIterator.hasNext()) {
+                        return false;
+                    }
+
+                    List<T> next = distinct(pageIterator.nextPage());
+                    pages++;
+                    if (onPage != null && !next.isEmpty()) {
+                        onPage.accept(next);
+                    }
+                    page = next.iterator();
+                }
+
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                returned++;
+                return page.next();
+            }
+
+            private List<T> distinct(List<T> hits) {
+                var distinct = new ArrayList<T>(hits.size());
+                for (var hit : hits) {
+                    if (!(hit instanceof GHObject object) || seen.add(object.getId())) {
+                        distinct.add(hit);
+                    } else {
+                        duplicates++;
+                    }
+                }
+
+                return distinct;
+            }
+        };
+    }
+}
@@ -0,0 +1,236 @@
+package io.kestra.plugin.github;
+
+import io.kestra.plugin.github.client.PrefetchingGitHubConnector;
+import org.kohsuke.github.GHObject;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hits of a search split into date range shards that each fit under the 1000 results cap of the search API.
+ * <p>
+ * Shards are fetched concurrently, at most {@code concurrency} ahead of the consumer, and returned in ascending range
+ * order without the hits already returned by a previous shard (an item updated during the export can match two ranges).
+ * A shard is buffered until its hits are returned then released, so at most {@code concurrency + 1} shards of
+ * {@link #SEARCH_RESULTS_CAP} hits are held whatever the size of the export.
+ * <p>
+ * The shards can also be independent searches, e.g. the queries of a batch: {@link #hits()} then tells which one
+ * returned each hit, and with {@code distinct} disabled a hit is returned once for every search it matches.
+ */
+class ShardedResults<T extends GHObject> implements Iterable<T> {
+    static final int SEARCH_RESULTS_CAP = 1000;
+    // oldest creation date on github.com
+    static final Instant EPOCH = Instant.parse("2007-10-01T00:00:00Z");
+
+    private final Function<String, PagedSearchIterable<T>> search;
+    private final List<String> qualifiers;
+    private final Integer pageSize;
+    private final Consumer<List<T>> onPage;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final boolean distinct;
+    // summed as the shards are read, so that their hits are released once returned
+    private int pages;
+    private long total;
+    private long duplicates;
+
+    ShardedResults(Function<String, PagedSearchIterable<T>> search, List<String> qualifiers, Integer pageSize, Consumer<List<T>> onPage, int concurrency, ExecutorService executor) {
+        this(search, qualifiers, pageSize, onPage, concurrency, executor, true);
+    }
+
+    /**
+     * @param distinct whether a hit already returned by a previous shard is dropped
+     */
+    ShardedResults(Function<String, PagedSearchIterable<T>> search, List<String> qualifiers, Integer pageSize, Consumer<List<T>> onPage, int concurrency, ExecutorService executor, boolean distinct) {
+        this.search = search;
+        this.qualifiers = qualifiers;
+        this.pageSize = pageSize;
+        this.onPage = onPage;
+        this.concurrency = Math.max(concurrency, 1);
+        this.executor = executor;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Splits {@code [from, to]} in halves until the search returns at most {@link #SEARCH_RESULTS_CAP} hits for each range.
+     *
+     * @param field      the date qualifier to shard on, {@code created} or {@code updated}
+     * @param truncated  called with the qualifier of a one-second range that still exceeds the cap
+     * @return the qualifiers of the shards, in ascending order
+     */
+    static <T> List<String> split(Function<String, PagedSearchIterable<T>> search, String field, Instant from, Instant to, Consumer<String> truncated) {
+        var qualifiers = new ArrayList<String>();
+        var ranges = new ArrayDeque<Instant[]>();
+        ranges.push(new Instant[]{from, to});
+
+        while (!ranges.isEmpty()) {
+            var range = ranges.pop();
+            var qualifier = field + ":" + range[0] + ".." + range[1];
+
+            // a single hit per page is enough to read the total
+            var total = PrefetchingGitHubConnector.withoutPrefetch(() -> search.apply(qualifier).withPageSize(1).getTotalCount());
+            if (total <= SEARCH_RESULTS_CAP) {
+                qualifiers.add(qualifier);
+                continue;
+            }
+
+            var seconds = ChronoUnit.SECONDS.between(range[0], range[1]);
+            if (seconds < 1) {
+                truncated.accept(qualifier);
+                qualifiers.add(qualifier);
+                continue;
+            }
+
+            var middle = range[0].plusSeconds(seconds / 2);
+            // depth first on the earliest half keeps the qualifiers in ascending order
+            ranges.push(new Instant[]{middle.plusSeconds(1), range[1]});
+            ranges.push(new Instant[]{range[0], middle});
+        }
+
+        return qualifiers;
+    }
+
+    int getPages() {
+        return pages;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the hits dropped because already returned, by a previous shard or a previous page of the same shard
+     */
+    long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return the hits, each with the qualifier of the shard that returned it
+     */
+    Iterable<Hit<T>> hits() {
+        return this::hitIterator;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        var hits = hitIterator();
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return hits.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return hits.next().value();
+            }
+        };
+    }
+
+    private Iterator<Hit<T>> hitIterator() {
+        return new Iterator<>() {
+            private final Iterator<String> remaining = qualifiers.iterator();
+            private final Deque<CompletableFuture<Shard<T>>> running = new ArrayDeque<>();
+            private final LongHashSet seen = new LongHashSet();
+            private String qualifier;
+            private Queue<T> current = new ArrayDeque<>();
+            private Hit<T> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    // polled, so that a hit is released once returned
+                    var candidate = current.poll();
+                    if (candidate != null) {
+                        if (!distinct || seen.add(candidate.getId())) {
+                            next = new Hit<>(qualifier, candidate);
+                        } else {
+                            duplicates++;
+                        }
+                        continue;
+                    }
+
+                    while (running.size() < concurrency && remaining.hasNext()) {
+                        var qualifier = remaining.next();
+                        var paged = new PagedResults<>(search.apply(qualifier), pageSize, null, onPage);
+                        running.add(CompletableFuture.supplyAsync(() -> fetch(qualifier, paged), executor));
+                    }
+
+                    if (running.isEmpty()) {
+                        return false;
+                    }
+
+                    var shard = join(running.poll());
+                    pages += shard.pages();
+                    total += shard.total();
+                    duplicates += shard.duplicates();
+                    qualifier = shard.qualifier();
+                    current = shard.hits();
+                }
+
+                return true;
+            }
+
+            @Override
+            public Hit<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    private Shard<T> fetch(String qualifier, PagedResults<T> paged) {
+        var hits = new ArrayDeque<T>();
+        try {
+            paged.forEach(hits::add);
+        } finally {
+            PrefetchingGitHubConnector.release();
+        }
+
+        var total = paged.getTotal();
+        return new Shard<>(qualifier, hits, paged.getPages(), total == null ? 0 : total, paged.getDuplicates());
+    }
+
+    private Shard<T> join(CompletableFuture<Shard<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a search shard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Unable to fetch a search shard", e.getCause());
+        }
+    }
+
+    /**
+     * @param qualifier the qualifier of the shard that returned the hit
+     */
+    record Hit<T>(String qualifier, T value) {
+    }
+
+    private record Shard<T>(String qualifier, Queue<T> hits, int pages, long total, long duplicates) {
+    }
+}
@@ -0,0 +1,219 @@
+package io.kestra.plugin.github;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.github.AbstractGithubSearchTask.Compression;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the rows of a {@code STORE} output to Ion files in internal storage.
+ * <p>
+ * Rows go to a single file by default. With {@code maxRowsPerFile}, a file is closed and uploaded as soon as it holds
+ * that many rows and the next rows go to a new one; with {@code partitionBy}, each value of that column gets its own
+ * series of files. Only the files still being filled are kept on the local disk, and at most
+ * {@link #MAX_OPEN_PARTITIONS} of them: past that, the file of the least recently written partition is uploaded and
+ * its next rows go to a new file, so a column with many values never exhausts file handles or memory.
+ * <p>
+ * Ion files are compressed while they are written when a {@link Compression} is set, with the matching {@code .gz}
+ * or {@code .zst} extension naming the codec; Kestra readers such as {@link FileSerde} do not decompress them by
+ * themselves.
+ */
+class StoreWriter implements AutoCloseable {
+    static final int MAX_OPEN_PARTITIONS = 16;
+
+    private final RunContext runContext;
+    private final Integer maxRowsPerFile;
+    private final String partitionBy;
+    private final Compression compression;
+    // in access order, the eldest is the least recently written
+    private final Map<String, Chunk> filling = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, List<URI>> uploaded = new LinkedHashMap<>();
+    // by creation index, files are not uploaded in the order they were created once partitioned
+    private final SortedMap<Integer, URI> uris = new TreeMap<>();
+    private int created;
+    private int size;
+
+    StoreWriter(RunContext runContext, Integer maxRowsPerFile, String partitionBy, Compression compression) {
+        this.runContext = runContext;
+        this.maxRowsPerFile = maxRowsPerFile != null && maxRowsPerFile > 0 ? maxRowsPerFile : null;
+        this.partitionBy = partitionBy;
+        this.compression = compression == null ? Compression.NONE : compression;
+    }
+
+    boolean isSplit() {
+        return maxRowsPerFile != null || partitionBy != null;
+    }
+
+    void write(Map<String, Object> row) throws IOException {
+        var partition = partitionBy == null ? "" : String.valueOf(row.get(partitionBy));
+
+        var chunk = chunk(partition);
+        FileSerde.write(chunk.output, row);
+        chunk.rows++;
+        size++;
+
+        if (maxRowsPerFile != null && chunk.rows >= maxRowsPerFile) {
+            upload(partition, filling.remove(partition));
+        }
+    }
+
+    /**
+     * The stream of the single file of an unsplit output, for rows already serialized to Ion.
+     */
+    OutputStream stream() throws IOException {
+        if (isSplit()) {
+            throw new IllegalStateException("Only an unsplit output has a single stream");
+        }
+
+        return chunk("").output;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the URIs of the files, in the order they were created, i.e. of the first row each one holds
+     */
+    List<URI> getUris() {
+        return List.copyOf(uris.values());
+    }
+
+    /**
+     * @return the URIs of the files of each {@code partitionBy} value, {@code null} when not partitioned
+     */
+    Map<String, List<URI>> getPartitions() {
+        return partitionBy == null ? null : uploaded;
+    }
+
+    /**
+     * Uploads the files still being filled, to be called once every row was written.
+     */
+    void complete() throws IOException {
+        // an unsplit output always has its file, even without rows
+        if (!isSplit() && uploaded.isEmpty()) {
+            chunk("");
+        }
+
+        for (var entry : filling.entrySet()) {
+            upload(entry.getKey(), entry.getValue());
+        }
+        filling.clear();
+    }
+
+    /**
+     * Releases the files left incomplete by a failure, they are never uploaded.
+     */
+    @Override
+    public void close() throws IOException {
+        for (var chunk : filling.values()) {
+            chunk.close();
+        }
+        filling.clear();
+    }
+
+    private Chunk chunk(String partition) throws IOException {
+        var chunk = filling.get(partition);
+        if (chunk == null) {
+            if (filling.size() >= MAX_OPEN_PARTITIONS) {
+                var eldest = filling.entrySet().iterator().next();
+                filling.remove(eldest.getKey());
+                upload(eldest.getKey(), eldest.getValue());
+            }
+
+            chunk = new Chunk(created++, runContext.workingDir().createTempFile(extension()).toFile());
+            filling.put(partition, chunk);
+        }
+
+        return chunk;
+    }
+
+    private void upload(String partition, Chunk chunk) throws IOException {
+        chunk.close();
+
+        if (compression != Compression.NONE) {
+            synchronized (runContext) {
+                runContext.metric(Counter.of("store.bytes.uncompressed", chunk.uncompressed.count, "compression", compression.name()));
+                runContext.metric(Counter.of("store.bytes.compressed", Files.size(chunk.file.toPath()), "compression", compression.name()));
+            }
+        }
+
+        var uri = runContext.storage().putFile(chunk.file);
+        uploaded.computeIfAbsent(partition, key -> new ArrayList<>()).add(uri);
+        uris.put(chunk.index, uri);
+        Files.deleteIfExists(chunk.file.toPath());
+    }
+
+    private String extension() {
+        return switch (compression) {
+            case NONE -> ".ion";
+            case GZIP -> ".ion.gz";
+            case ZSTD -> ".ion.zst";
+        };
+    }
+
+    private static OutputStream compress(OutputStream output, Compression compression) throws IOException {
+        return switch (compression) {
+            case NONE -> output;
+            case GZIP -> new GZIPOutputStream(output, FileSerde.BUFFER_SIZE);
+            case ZSTD -> new ZstdOutputStream(output);
+        };
+    }
+
+    private class Chunk {
+        private final int index;
+        private final File file;
+        private final CountingOutputStream uncompressed;
+        private final OutputStream output;
+        private int rows;
+
+        private Chunk(int index, File file) throws IOException {
+            this.index = index;
+            this.file = file;
+
+            this.uncompressed = new CountingOutputStream(compress(new FileOutputStream(file), compression));
+            this.output = new BufferedOutputStream(uncompressed, FileSerde.BUFFER_SIZE);
+        }
+
+        private void close() throws IOException {
+            output.close();
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.github.client.GithubClientPool;
+import io.kestra.plugin.github.client.GithubRateLimiter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
@@ -126,8 +128,11 @@ public class AppToken extends Task implements RunnableTask<AppToken.Output> {
             .addHeader("X-GitHub-Api-Version", "2022-11-28")
             .build();
 
+        // the app JWT is re-signed on every run, so the quota is tracked per app rather than per token
+        var rateLimiter = GithubRateLimiter.of(new GithubClientPool.Key(rEndpoint, GithubClientPool.fingerprint("app", rClientId)));
+
         try (var http = new HttpClient(runContext, HttpConfiguration.builder().build())) {
-            var resp = http.request(req, String.class);
+            var resp = rateLimiter.send(http, req, String.class, runContext);
 
             var status = resp.getStatus().getCode();
             if (status < 200 || status >= 300) {
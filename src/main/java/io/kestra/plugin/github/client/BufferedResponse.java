@@ -0,0 +1,62 @@
+package io.kestra.plugin.github.client;
+
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Response whose body was fully read in memory, so it can be replayed or consumed later without holding a connection.
+ */
+class BufferedResponse extends GitHubConnectorResponse {
+    private final byte[] body;
+
+    BufferedResponse(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers, byte[] body) {
+        super(request, statusCode, headers);
+        this.body = body;
+    }
+
+    /**
+     * Reads and closes the given response. The body is stored decoded, so the headers describing the wire encoding
+     * are dropped.
+     */
+    static BufferedResponse of(GitHubConnectorResponse response) throws IOException {
+        byte[] body;
+        try (response) {
+            var stream = response.bodyStream();
+            body = stream == null ? new byte[0] : stream.readAllBytes();
+        }
+
+        return new BufferedResponse(response.request(), response.statusCode(), transportFree(response.allHeaders()), body);
+    }
+
+    static Map<String, List<String>> transportFree(Map<String, List<String>> headers) {
+        var filtered = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> {
+            if (name != null && !name.equalsIgnoreCase("Content-Encoding") && !name.equalsIgnoreCase("Content-Length")) {
+                filtered.put(name, new ArrayList<>(values));
+            }
+        });
+
+        return filtered;
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    @Override
+    protected InputStream rawBodyStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,171 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Connector decorator that sends {@code If-None-Match} / {@code If-Modified-Since} on cached GET requests and
+ * replays the cached body when GitHub answers {@code 304 Not Modified}, which does not count against the primary
+ * rate limit.
+ * <p>
+ * Search responses go through untouched: caching them would buffer every page in memory, defeating their streaming,
+ * for pages that are hardly ever requested twice with the same validators.
+ * <p>
+ * Emits the {@code cache.hits}, {@code cache.misses} and {@code cache.revalidations} counters on the run context.
+ */
+public class CachingGitHubConnector implements GitHubConnector {
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final GitHubConnector delegate;
+    private final String endpoint;
+    private final GithubResponseCache cache;
+    private final String namespace;
+    private final RunContext runContext;
+
+    /**
+     * @param endpoint the API endpoint the requests are sent to
+     */
+    public CachingGitHubConnector(GitHubConnector delegate, String endpoint, GithubResponseCache cache, String namespace, RunContext runContext) {
+        this.delegate = delegate;
+        this.endpoint = endpoint;
+        this.cache = cache;
+        this.namespace = namespace;
+        this.runContext = runContext;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        if (!"GET".equals(request.method()) || GithubApiPaths.isSearch(endpoint, request.url().getPath())) {
+            return delegate.send(request);
+        }
+
+        var key = GithubClientPool.fingerprint(namespace, request.url().toString(), request.header("Accept"));
+        var cached = lookup(key);
+
+        if (cached.isEmpty()) {
+            metric("cache.misses");
+            return store(key, delegate.send(request));
+        }
+
+        metric("cache.revalidations");
+        var response = delegate.send(new ConditionalRequest(request, cached.get()));
+
+        if (response.statusCode() != HTTP_NOT_MODIFIED) {
+            metric("cache.misses");
+            return store(key, response);
+        }
+
+        metric("cache.hits");
+
+        // keep the fresh rate limit headers from the 304 so the client still tracks the remaining quota
+        var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.get().headers());
+        response.allHeaders().forEach((name, values) -> {
+            if (name != null && name.toLowerCase().startsWith("x-ratelimit-")) {
+                headers.put(name, values);
+            }
+        });
+        response.close();
+
+        return new BufferedResponse(request, HTTP_OK, headers, cached.get().body());
+    }
+
+    private Optional<GithubResponseCache.Entry> lookup(String key) {
+        try {
+            return cache.get(key);
+        } catch (Exception e) {
+            runContext.logger().debug("Unable to read GitHub response cache, ignoring it", e);
+            return Optional.empty();
+        }
+    }
+
+    private GitHubConnectorResponse store(String key, GitHubConnectorResponse response) throws IOException {
+        var etag = response.header("ETag");
+        var lastModified = response.header("Last-Modified");
+
+        if (response.statusCode() != HTTP_OK || (etag == null && lastModified == null)) {
+            return response;
+        }
+
+        var buffered = BufferedResponse.of(response);
+
+        try {
+            cache.put(key, new GithubResponseCache.Entry(etag, lastModified, buffered.allHeaders(), buffered.body()));
+        } catch (Exception e) {
+            runContext.logger().debug("Unable to write GitHub response cache, ignoring it", e);
+        }
+
+        return buffered;
+    }
+
+    private void metric(String name) {
+        synchronized (runContext) {
+            runContext.metric(Counter.of(name, 1));
+        }
+    }
+
+    private static class ConditionalRequest implements GitHubConnectorRequest {
+        private final GitHubConnectorRequest delegate;
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        private ConditionalRequest(GitHubConnectorRequest delegate, GithubResponseCache.Entry cached) {
+            this.delegate = delegate;
+            this.headers.putAll(delegate.allHeaders());
+
+            if (cached.etag() != null) {
+                this.headers.put("If-None-Match", List.of(cached.etag()));
+            }
+            if (cached.lastModified() != null) {
+                this.headers.put("If-Modified-Since", List.of(cached.lastModified()));
+            }
+        }
+
+        @Override
+        public String method() {
+            return delegate.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            var values = headers.get(name);
+            return values == null || values.isEmpty() ? null : String.join(",", values);
+        }
+
+        @Override
+        public String contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return delegate.body();
+        }
+
+        @Override
+        public URL url() {
+            return delegate.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return delegate.hasBody();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.kestra.plugin.github.client;
+
+import java.net.URI;
+
+/**
+ * Paths of the requests sent to a GitHub API endpoint, read relative to its root so that a repository or an owner
+ * named like an API route, e.g. {@code /repos/acme/search/pulls/1}, is never mistaken for it. The root is empty for
+ * {@code https://api.github.com} and {@code /api/v3} for GitHub Enterprise Server.
+ */
+final class GithubApiPaths {
+    private GithubApiPaths() {
+    }
+
+    /**
+     * @param endpoint the API endpoint the request is sent to, {@code null} when its root is the root of the host
+     * @return the path below the API root, unchanged when it is not below it
+     */
+    static String relative(String endpoint, String path) {
+        var root = root(endpoint);
+        if (!root.isEmpty() && path.startsWith(root + "/")) {
+            return path.substring(root.length());
+        }
+
+        return path;
+    }
+
+    /**
+     * @return whether the path is one of the search API, e.g. {@code /search/issues}
+     */
+    static boolean isSearch(String endpoint, String path) {
+        return relative(endpoint, path).startsWith("/search/");
+    }
+
+    private static String root(String endpoint) {
+        if (endpoint == null) {
+            return "";
+        }
+
+        var path = URI.create(endpoint.strip()).getPath();
+        return path == null ? "" : path.replaceFirst("/+$", "");
+    }
+}
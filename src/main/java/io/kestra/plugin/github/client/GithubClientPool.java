@@ -0,0 +1,197 @@
+package io.kestra.plugin.github.client;
+
+import org.kohsuke.github.connector.GitHubConnector;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Worker-scoped pool of GitHub HTTP connectors.
+ * <p>
+ * A {@link GitHubConnector} owns the underlying HTTP client, so reusing it across task runs keeps TLS sessions and
+ * keep-alive connections warm, while each run still builds its own lightweight {@code GitHub} instance on top of it
+ * to attach per-execution decorators. Clients are keyed by endpoint and by a SHA-256 fingerprint of the
+ * credentials (the raw secret is never kept as a key), evicted once idle for longer than {@code idleTimeout}, and
+ * the pool never holds more than {@code maxSize} clients (least recently used first). Evicted clients are closed, so
+ * runs hold a {@link #borrowing} connector rather than a client.
+ */
+public final class GithubClientPool {
+    public static final int DEFAULT_MAX_SIZE = 64;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final GithubClientPool INSTANCE = new GithubClientPool(DEFAULT_MAX_SIZE, DEFAULT_IDLE_TIMEOUT, Clock.systemUTC());
+
+    private final int maxSize;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final LinkedHashMap<Key, Entry> clients = new LinkedHashMap<>(16, 0.75f, true);
+
+    GithubClientPool(int maxSize, Duration idleTimeout, Clock clock) {
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    public static GithubClientPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param factory builds the client when the pool has none for the key, outside the pool lock so that a slow build
+     *                only delays the runs waiting for the same key
+     */
+    public GitHubConnector get(Key key, Callable<GitHubConnector> factory) throws Exception {
+        var evicted = new ArrayList<Entry>();
+        Entry entry;
+        boolean created = false;
+
+        synchronized (clients) {
+            evictIdle(evicted);
+
+            entry = clients.get(key);
+            if (entry == null) {
+                entry = new Entry(new FutureTask<>(factory));
+                created = true;
+                clients.put(key, entry);
+
+                while (clients.size() > maxSize) {
+                    var eldest = clients.values().iterator();
+                    evicted.add(eldest.next());
+                    eldest.remove();
+                }
+            }
+
+            entry.lastAccess = clock.millis();
+        }
+
+        evicted.forEach(Entry::close);
+
+        if (created) {
+            entry.client.run();
+        }
+
+        try {
+            return entry.client.get();
+        } catch (ExecutionException e) {
+            // don't keep a failed build, the next run tries again
+            synchronized (clients) {
+                clients.remove(key, entry);
+            }
+
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Connector sending each request through the pooled client of {@code key}, borrowed at that moment: a run
+     * outliving the eviction of a client goes on with a fresh pooled one instead of a closed or orphan client.
+     */
+    public GitHubConnector borrowing(Key key, Callable<GitHubConnector> factory) {
+        return request -> {
+            try {
+                return borrow(key, factory).send(request);
+            } catch (PooledHttpConnector.Closed e) {
+                // evicted and closed between the borrow and the send, nothing was sent
+                return borrow(key, factory).send(request);
+            }
+        };
+    }
+
+    public void invalidate(Key key) {
+        Entry removed;
+        synchronized (clients) {
+            removed = clients.remove(key);
+        }
+
+        if (removed != null) {
+            removed.close();
+        }
+    }
+
+    public int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    private GitHubConnector borrow(Key key, Callable<GitHubConnector> factory) throws IOException {
+        try {
+            return get(key, factory);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Unable to create the GitHub connector", e);
+        }
+    }
+
+    private void evictIdle(List<Entry> evicted) {
+        var threshold = clock.millis() - idleTimeout.toMillis();
+        Iterator<Map.Entry<Key, Entry>> iterator = clients.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next().getValue();
+            if (entry.lastAccess < threshold) {
+                evicted.add(entry);
+                iterator.remove();
+            }
+        }
+    }
+
+    public static String fingerprint(String... secrets) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (var secret : secrets) {
+                if (secret != null) {
+                    digest.update(secret.getBytes(StandardCharsets.UTF_8));
+                }
+                // separator so that ("ab", null) and ("a", "b") never collide
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Key(String endpoint, String credentials) {
+    }
+
+    private static final class Entry {
+        private final FutureTask<GitHubConnector> client;
+        private long lastAccess;
+
+        private Entry(FutureTask<GitHubConnector> client) {
+            this.client = client;
+        }
+
+        /**
+         * Closes the client in the background, as closing waits for the requests still in flight.
+         */
+        private void close() {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    if (client.get() instanceof AutoCloseable closeable) {
+                        closeable.close();
+                    }
+                } catch (Exception ignored) {
+                    // nothing to release for a client that failed to build
+                }
+            });
+        }
+    }
+}
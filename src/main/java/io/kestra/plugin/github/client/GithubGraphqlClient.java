@@ -0,0 +1,85 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Minimal GitHub GraphQL client sending its queries through the {@link GithubRateLimiter} of the credentials.
+ */
+public class GithubGraphqlClient {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    private final RunContext runContext;
+    private final URI uri;
+    private final String authorization;
+    private final GithubRateLimiter rateLimiter;
+
+    /**
+     * @param endpoint      the REST API endpoint, e.g. {@code https://api.github.com} or {@code https://ghe.acme.com/api/v3}
+     * @param authorization the {@code Authorization} header value
+     */
+    public GithubGraphqlClient(RunContext runContext, String endpoint, String authorization, GithubRateLimiter rateLimiter) {
+        this.runContext = runContext;
+        this.uri = graphqlUri(endpoint);
+        this.authorization = authorization;
+        this.rateLimiter = rateLimiter;
+    }
+
+    static URI graphqlUri(String endpoint) {
+        var base = endpoint.strip().replaceFirst("/+$", "");
+
+        // GitHub Enterprise Server serves REST on /api/v3 and GraphQL on /api/graphql
+        if (base.endsWith("/api/v3")) {
+            return URI.create(base.substring(0, base.length() - "/v3".length()) + "/graphql");
+        }
+
+        return URI.create(base + "/graphql");
+    }
+
+    /**
+     * Runs a query and returns its {@code data}. Partial errors, such as nodes that are not accessible anymore, are only
+     * logged: the corresponding entries of {@code data} are {@code null}.
+     */
+    public JsonNode query(String query, Map<String, Object> variables) throws Exception {
+        var request = HttpRequest.builder()
+            .uri(uri)
+            .method("POST")
+            .body(HttpRequest.StringRequestBody.builder().content(MAPPER.writeValueAsString(Map.of("query", query, "variables", variables))).build())
+            .addHeader("Authorization", authorization)
+            .addHeader("Content-Type", "application/json")
+            .addHeader("Accept", "application/json")
+            .build();
+
+        try (var client = new HttpClient(runContext, HttpConfiguration.builder().allowFailed(Property.ofValue(true)).build())) {
+            var response = rateLimiter.send(client, request, String.class, runContext);
+            var statusCode = response.getStatus().getCode();
+            if (statusCode != 200) {
+                throw new IllegalStateException("GitHub GraphQL request failed with HTTP %d: %s".formatted(statusCode, response.getBody()));
+            }
+
+            var root = MAPPER.readTree(response.getBody());
+            var data = root.path("data");
+            var errors = root.path("errors");
+
+            if (data.isMissingNode() || data.isNull()) {
+                var message = errors.path(0).path("message").asText("unknown GraphQL error");
+                throw new IllegalStateException("GitHub GraphQL error: " + message);
+            }
+
+            if (errors.isArray() && !errors.isEmpty()) {
+                runContext.logger().warn("GitHub GraphQL returned {} partial error(s), first one: {}", errors.size(), errors.get(0).path("message").asText(""));
+            }
+
+            return data;
+        }
+    }
+}
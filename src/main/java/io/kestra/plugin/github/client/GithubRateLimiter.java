@@ -0,0 +1,251 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Worker-scoped request scheduler shared by every execution using the same credentials.
+ * <p>
+ * It tracks the remaining quota and reset time of each GitHub rate limit resource ({@code core}, {@code search},
+ * {@code graphql}, ...) from the {@code X-RateLimit-*} response headers, honors {@code Retry-After} on secondary rate
+ * limits, and paces requests with a token bucket. Callers block in {@link #acquire} instead of being rejected by GitHub.
+ */
+public final class GithubRateLimiter {
+    public static final String CORE = "core";
+    public static final String SEARCH = "search";
+    public static final String CODE_SEARCH = "code_search";
+    public static final String GRAPHQL = "graphql";
+
+    // GitHub secondary rate limits allow 900 points per minute on REST endpoints
+    static final double DEFAULT_REQUESTS_PER_SECOND = 15;
+
+    private static final int MAX_LIMITERS = 256;
+    private static final long RESET_SKEW_MILLIS = 1000;
+    private static final Map<GithubClientPool.Key, GithubRateLimiter> LIMITERS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GithubClientPool.Key, GithubRateLimiter> eldest) {
+            return size() > MAX_LIMITERS;
+        }
+    };
+
+    private final String endpoint;
+    private final String graphqlPath;
+    private final Clock clock;
+    private final TokenBucket pacing;
+    private final Map<String, Quota> quotas = new HashMap<>();
+    private final Map<String, TokenBucket> resourcePacing = new HashMap<>();
+    private final Map<String, Integer> resourceLimits = new HashMap<>();
+    private long pausedUntil;
+
+    GithubRateLimiter(double requestsPerSecond, Clock clock) {
+        this(null, requestsPerSecond, clock);
+    }
+
+    /**
+     * @param endpoint the API endpoint the requests are sent to, which the resource of a request path is read against
+     */
+    GithubRateLimiter(String endpoint, double requestsPerSecond, Clock clock) {
+        this.endpoint = endpoint;
+        this.graphqlPath = endpoint == null ? "/graphql" : GithubGraphqlClient.graphqlUri(endpoint).getPath();
+        this.clock = clock;
+        this.pacing = new TokenBucket(requestsPerSecond, requestsPerSecond, clock.millis());
+    }
+
+    public static GithubRateLimiter of(GithubClientPool.Key key) {
+        synchronized (LIMITERS) {
+            return LIMITERS.computeIfAbsent(key, k -> new GithubRateLimiter(k.endpoint(), DEFAULT_REQUESTS_PER_SECOND, Clock.systemUTC()));
+        }
+    }
+
+    public String resourceOf(String path) {
+        var relative = GithubApiPaths.relative(endpoint, path);
+        if (relative.equals("/search/code")) {
+            return CODE_SEARCH;
+        }
+        if (GithubApiPaths.isSearch(endpoint, path)) {
+            return SEARCH;
+        }
+        if (path.equals(graphqlPath)) {
+            return GRAPHQL;
+        }
+        return CORE;
+    }
+
+    /**
+     * Paces a resource that has its own, smaller quota (e.g. the search API) independently of the global pacing.
+     * <p>
+     * The resource keeps a single bucket: when runs sharing the credentials ask for different rates, the lowest one
+     * applies, without refilling the bucket.
+     */
+    public synchronized void limit(String resource, int requestsPerMinute) {
+        var bucket = resourcePacing.get(resource);
+        if (bucket == null) {
+            resourcePacing.put(resource, new TokenBucket(requestsPerMinute, requestsPerMinute / 60d, clock.millis()));
+            resourceLimits.put(resource, requestsPerMinute);
+        } else if (requestsPerMinute < resourceLimits.get(resource)) {
+            bucket.slowDown(requestsPerMinute, requestsPerMinute / 60d, clock.millis());
+            resourceLimits.put(resource, requestsPerMinute);
+        }
+    }
+
+    /**
+     * Sends a request through a Kestra {@link HttpClient}, pacing it and recording the advertised quota.
+     */
+    public <T> HttpResponse<T> send(HttpClient client, HttpRequest request, Class<T> cls, RunContext runContext) throws Exception {
+        var resource = resourceOf(request.getUri().getPath());
+        acquire(resource, runContext);
+
+        var response = client.request(request, cls);
+        update(resource, response.getStatus().getCode(), name -> response.getHeaders().firstValue(name).orElse(null));
+
+        return response;
+    }
+
+    /**
+     * Same as {@link #send(HttpClient, HttpRequest, Class, RunContext)}, handing the response to {@code consumer} while
+     * its body is still streamed instead of reading it whole.
+     */
+    public void send(HttpClient client, HttpRequest request, Consumer<HttpResponse<InputStream>> consumer, RunContext runContext) throws Exception {
+        var resource = resourceOf(request.getUri().getPath());
+        acquire(resource, runContext);
+
+        client.request(request, response -> {
+            update(resource, response.getStatus().getCode(), name -> response.getHeaders().firstValue(name).orElse(null));
+            consumer.accept(response);
+        });
+    }
+
+    /**
+     * Blocks until a request on the given resource can be sent, reporting the time spent waiting as the
+     * {@code ratelimit.wait} timer.
+     */
+    public void acquire(String resource, RunContext runContext) throws InterruptedException {
+        var waited = acquire(resource, runContext.logger());
+        if (!waited.isZero()) {
+            synchronized (runContext) {
+                runContext.metric(Timer.of("ratelimit.wait", waited, "resource", resource));
+            }
+        }
+    }
+
+    /**
+     * Blocks until a request on the given resource can be sent.
+     *
+     * @return the time spent waiting
+     */
+    public Duration acquire(String resource, Logger logger) throws InterruptedException {
+        var start = clock.millis();
+        var logged = false;
+
+        while (true) {
+            long wait;
+            synchronized (this) {
+                wait = nextWait(resource);
+            }
+
+            if (wait <= 0) {
+                return Duration.ofMillis(clock.millis() - start);
+            }
+
+            if (!logged && wait > RESET_SKEW_MILLIS && logger != null) {
+                logger.info("GitHub '{}' rate limit reached, waiting {} before sending the next request", resource, Duration.ofMillis(wait));
+                logged = true;
+            }
+
+            Thread.sleep(wait);
+        }
+    }
+
+    /**
+     * Records the quota advertised by a response.
+     *
+     * @param header lookup of a response header by name, returning {@code null} when absent
+     */
+    public synchronized void update(String resource, int status, Function<String, String> header) {
+        var now = clock.millis();
+
+        var retryAfter = header.apply("Retry-After");
+        if (retryAfter != null && (status == 403 || status == 429)) {
+            try {
+                pausedUntil = Math.max(pausedUntil, now + Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form is never used by GitHub
+            }
+        }
+
+        var remaining = header.apply("X-RateLimit-Remaining");
+        var reset = header.apply("X-RateLimit-Reset");
+        if (remaining == null || reset == null) {
+            return;
+        }
+
+        var advertised = header.apply("X-RateLimit-Resource");
+        var quota = quotas.computeIfAbsent(advertised != null ? advertised : resource, k -> new Quota());
+
+        try {
+            var resetAt = Long.parseLong(reset.trim()) * 1000;
+            // responses of the same window can arrive out of order, keep the most pessimistic view
+            quota.remaining = resetAt > quota.resetAt ? Integer.parseInt(remaining.trim()) : Math.min(quota.remaining, Integer.parseInt(remaining.trim()));
+            quota.resetAt = resetAt;
+        } catch (NumberFormatException ignored) {
+            // malformed headers, keep the previous state
+        }
+    }
+
+    /**
+     * @return the number of milliseconds to wait before sending, {@code 0} when the request was admitted
+     */
+    long nextWait(String resource) {
+        var now = clock.millis();
+
+        if (pausedUntil > now) {
+            return pausedUntil - now;
+        }
+
+        var quota = quotas.get(resource);
+        if (quota != null && quota.remaining <= 0 && quota.resetAt > now) {
+            return quota.resetAt - now + RESET_SKEW_MILLIS;
+        }
+
+        var resourceBucket = resourcePacing.get(resource);
+        if (resourceBucket != null) {
+            var wait = resourceBucket.tryConsume(now);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+
+        var wait = pacing.tryConsume(now);
+        if (wait > 0) {
+            if (resourceBucket != null) {
+                resourceBucket.refund();
+            }
+            return wait;
+        }
+
+        if (quota != null) {
+            // reserve the slot locally so concurrent callers don't all see the same remaining count
+            quota.remaining--;
+        }
+
+        return 0;
+    }
+
+    private static final class Quota {
+        private int remaining = Integer.MAX_VALUE;
+        private long resetAt;
+    }
+}
@@ -0,0 +1,20 @@
+package io.kestra.plugin.github.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage for conditional-request validators ({@code ETag} / {@code Last-Modified}) and the response they validate.
+ */
+public interface GithubResponseCache {
+    Optional<Entry> get(String key) throws Exception;
+
+    void put(String key, Entry entry) throws Exception;
+
+    record Entry(String etag, String lastModified, Map<String, List<String>> headers, byte[] body) {
+        public long weight() {
+            return body.length;
+        }
+    }
+}
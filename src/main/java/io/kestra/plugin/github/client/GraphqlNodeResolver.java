@@ -0,0 +1,61 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import org.kohsuke.github.GHObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the fields missing from a page of search hits with one GraphQL {@code nodes(ids:)} query, instead of the
+ * lazy REST requests the GitHub client sends for every hit.
+ * <p>
+ * Resolved nodes are kept until the hit is mapped with {@link #remove}.
+ */
+public class GraphqlNodeResolver {
+    // maximum number of ids accepted by the nodes query
+    private static final int MAX_IDS = 100;
+
+    private final GithubGraphqlClient client;
+    private final RunContext runContext;
+    private final String query;
+    private final Map<String, JsonNode> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * @param selection the fields to select on each node, typically inline fragments such as {@code ... on Issue { ... }}
+     */
+    public GraphqlNodeResolver(GithubGraphqlClient client, RunContext runContext, String selection) {
+        this.client = client;
+        this.runContext = runContext;
+        this.query = "query($ids: [ID!]!) { nodes(ids: $ids) { id " + selection + " } }";
+    }
+
+    public void resolve(List<? extends GHObject> page) throws Exception {
+        var ids = page.stream().map(GHObject::getNodeId).filter(Objects::nonNull).distinct().toList();
+
+        for (int from = 0; from < ids.size(); from += MAX_IDS) {
+            var data = client.query(query, Map.of("ids", ids.subList(from, Math.min(from + MAX_IDS, ids.size()))));
+
+            for (var node : data.path("nodes")) {
+                if (node.hasNonNull("id")) {
+                    nodes.put(node.get("id").asText(), node);
+                }
+            }
+
+            synchronized (runContext) {
+                runContext.metric(Counter.of("graphql.queries", 1));
+            }
+        }
+    }
+
+    /**
+     * @return the resolved node, or {@code null} when it was not resolved so the REST getters must be used
+     */
+    public JsonNode remove(GHObject hit) {
+        return hit.getNodeId() == null ? null : nodes.remove(hit.getNodeId());
+    }
+}
@@ -0,0 +1,107 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves user and organization profiles by login, with one aliased GraphQL query per batch of logins instead of a
+ * {@code /users/{login}} request for each of them.
+ * <p>
+ * Profiles are read from the worker {@link UserProfileCache} while younger than {@code maxAge}, and kept until they
+ * are taken with {@link #remove}. Unknown logins are not resolved.
+ */
+public class GraphqlUserResolver {
+    /**
+     * Fields selected on each {@code repositoryOwner}, the same for every task sharing the cache.
+     */
+    public static final String SELECTION = """
+        __typename login publicRepositories: repositories(privacy: PUBLIC, ownerAffiliations: OWNER) { totalCount } \
+        ... on User { name company location createdAt updatedAt isViewer followers { totalCount } following { totalCount } \
+        privateRepositories: repositories(privacy: PRIVATE, ownerAffiliations: OWNER) { totalCount } } \
+        ... on Organization { name location createdAt updatedAt }\
+        """;
+
+    // aliases per query, as many as the hits of a search page
+    private static final int MAX_LOGINS = 100;
+
+    private final GithubGraphqlClient client;
+    private final RunContext runContext;
+    private final UserProfileCache cache;
+    private final GithubClientPool.Key key;
+    private final Duration maxAge;
+    private final Map<String, JsonNode> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * @param key    the credentials the profiles are cached for
+     * @param maxAge the maximum age of a cached profile
+     */
+    public GraphqlUserResolver(GithubGraphqlClient client, RunContext runContext, UserProfileCache cache, GithubClientPool.Key key, Duration maxAge) {
+        this.client = client;
+        this.runContext = runContext;
+        this.cache = cache;
+        this.key = key;
+        this.maxAge = maxAge;
+    }
+
+    public void resolve(Collection<String> logins) throws Exception {
+        var distinct = logins.stream().filter(Objects::nonNull).distinct().toList();
+        var missing = new ArrayList<String>();
+        for (var login : distinct) {
+            cache.get(key, login, maxAge).ifPresentOrElse(profile -> profiles.put(normalize(login), profile), () -> missing.add(login));
+        }
+
+        synchronized (runContext) {
+            runContext.metric(Counter.of("users.cache.hits", distinct.size() - missing.size()));
+            runContext.metric(Counter.of("users.cache.misses", missing.size()));
+        }
+
+        for (int from = 0; from < missing.size(); from += MAX_LOGINS) {
+            var batch = missing.subList(from, Math.min(from + MAX_LOGINS, missing.size()));
+
+            var variables = new LinkedHashMap<String, Object>();
+            var fields = new StringBuilder();
+            for (int i = 0; i < batch.size(); i++) {
+                variables.put("l" + i, batch.get(i));
+                fields.append(" u").append(i).append(": repositoryOwner(login: $l").append(i).append(") { ").append(SELECTION).append(" }");
+            }
+
+            var declarations = variables.keySet().stream().map(name -> "$" + name + ": String!").collect(Collectors.joining(", "));
+            var data = client.query("query(" + declarations + ") {" + fields + " }", variables);
+
+            for (int i = 0; i < batch.size(); i++) {
+                var profile = data.path("u" + i);
+                if (profile.isObject()) {
+                    cache.put(key, batch.get(i), profile);
+                    profiles.put(normalize(batch.get(i)), profile);
+                }
+            }
+
+            synchronized (runContext) {
+                runContext.metric(Counter.of("graphql.queries", 1));
+            }
+        }
+    }
+
+    /**
+     * @return the resolved profile, selected with {@link #SELECTION}, or {@code null} when it was not resolved so the
+     * REST getters must be used
+     */
+    public JsonNode remove(String login) {
+        return login == null ? null : profiles.remove(normalize(login));
+    }
+
+    private static String normalize(String login) {
+        return login.toLowerCase(Locale.ROOT);
+    }
+}
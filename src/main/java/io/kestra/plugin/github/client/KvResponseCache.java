@@ -0,0 +1,54 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Response cache persisted in the KV store of the flow namespace, so validators survive across executions and workers.
+ */
+public class KvResponseCache implements GithubResponseCache {
+    private static final String KEY_PREFIX = "github-cache-";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final KVStore kvStore;
+
+    public KvResponseCache(RunContext runContext) {
+        this.kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Entry> get(String key) throws Exception {
+        var value = kvStore.getValue(KEY_PREFIX + key);
+        if (value.isEmpty() || !(value.get().value() instanceof Map<?, ?> map)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Entry(
+            (String) map.get("etag"),
+            (String) map.get("last_modified"),
+            (Map<String, List<String>>) map.get("headers"),
+            Base64.getDecoder().decode((String) map.get("body"))
+        ));
+    }
+
+    @Override
+    public void put(String key, Entry entry) throws Exception {
+        var value = new HashMap<String, Object>();
+        value.put("etag", entry.etag());
+        value.put("last_modified", entry.lastModified());
+        value.put("headers", entry.headers());
+        value.put("body", Base64.getEncoder().encodeToString(entry.body()));
+
+        kvStore.put(KEY_PREFIX + key, new KVValueAndMetadata(new KVMetadata("GitHub conditional request cache", TTL), value));
+    }
+}
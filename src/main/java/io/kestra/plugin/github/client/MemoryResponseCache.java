@@ -0,0 +1,55 @@
+package io.kestra.plugin.github.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Worker-scoped LRU response cache bounded by the total size of the cached bodies.
+ */
+public final class MemoryResponseCache implements GithubResponseCache {
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private static final MemoryResponseCache INSTANCE = new MemoryResponseCache(DEFAULT_MAX_BYTES);
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    MemoryResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static MemoryResponseCache getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Optional<Entry> get(String key) {
+        synchronized (entries) {
+            return Optional.ofNullable(entries.get(key));
+        }
+    }
+
+    @Override
+    public void put(String key, Entry entry) {
+        if (entry.weight() > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            var previous = entries.put(key, entry);
+            if (previous != null) {
+                currentBytes -= previous.weight();
+            }
+            currentBytes += entry.weight();
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().getValue().weight();
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.github.client;
+
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Same request as the given one, for another page of results.
+ */
+class PageRequest implements GitHubConnectorRequest {
+    private final GitHubConnectorRequest delegate;
+    private final URL url;
+
+    PageRequest(GitHubConnectorRequest delegate, URL url) {
+        this.delegate = delegate;
+        this.url = url;
+    }
+
+    @Override
+    public String method() {
+        return delegate.method();
+    }
+
+    @Override
+    public Map<String, List<String>> allHeaders() {
+        return delegate.allHeaders();
+    }
+
+    @Override
+    public String header(String name) {
+        return delegate.header(name);
+    }
+
+    @Override
+    public String contentType() {
+        return delegate.contentType();
+    }
+
+    @Override
+    public InputStream body() {
+        return delegate.body();
+    }
+
+    @Override
+    public URL url() {
+        return url;
+    }
+
+    @Override
+    public boolean hasBody() {
+        return delegate.hasBody();
+    }
+}
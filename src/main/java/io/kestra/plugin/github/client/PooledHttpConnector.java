@@ -0,0 +1,56 @@
+package io.kestra.plugin.github.client;
+
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+import org.kohsuke.github.extras.HttpClientGitHubConnector;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+
+/**
+ * Connector kept in the {@link GithubClientPool}, owning its {@link HttpClient} so that the pool can close it once
+ * evicted, releasing its selector thread and connections.
+ * <p>
+ * Closing waits for the requests in flight, and the requests sent afterwards fail fast with a {@link Closed}
+ * exception: runs go through {@link GithubClientPool#borrowing}, which retries them on a fresh pooled connector.
+ */
+public final class PooledHttpConnector implements GitHubConnector, AutoCloseable {
+    private final HttpClient client = HttpClient.newBuilder()
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+    private final GitHubConnector delegate = new HttpClientGitHubConnector(client);
+    private volatile boolean closed;
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        if (closed) {
+            throw new Closed();
+        }
+
+        try {
+            return delegate.send(request);
+        } catch (IOException e) {
+            // closed between the check and the submission of the request
+            if (closed) {
+                throw new Closed();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        client.close();
+    }
+
+    /**
+     * Thrown for a request sent once the connector was evicted from the pool and closed.
+     */
+    public static final class Closed extends IOException {
+        private Closed() {
+            super("The pooled GitHub connector was closed");
+        }
+    }
+}
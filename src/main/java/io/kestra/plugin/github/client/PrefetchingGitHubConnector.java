@@ -0,0 +1,285 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Connector decorator that fetches the next pages of a search concurrently once the first page is known.
+ * <p>
+ * The first search response advertises its last page in the {@code Link} header, so the URLs of pages 2..N are
+ * predictable. They are requested on virtual threads, still through the wrapped rate limiter, and buffered until the
+ * paginator asks for them: hits come out in the same order as a sequential pagination. A page whose prefetch failed is
+ * simply requested again.
+ * <p>
+ * A search never has more than {@code concurrency} pages requested or buffered ahead of the page the paginator last
+ * read, so memory depends on the page size only, and the window only moves forward as the paginator reads. Pages are
+ * never prefetched beyond {@code maxResults} at the page size of the request, nor for the searches sent from
+ * {@link #withoutPrefetch}, e.g. the ones only read for their total count. Once the paginator is done, whether it
+ * read every page, stopped early or failed, {@link #release} cancels what is still outstanding.
+ */
+public class PrefetchingGitHubConnector implements GitHubConnector {
+    private static final Pattern LAST_LINK = Pattern.compile("<([^>]+)>;\\s*rel=\"last\"");
+    private static final Pattern PAGE_PARAMETER = Pattern.compile("([?&])page=\\d+");
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final ThreadLocal<Boolean> PROBING = ThreadLocal.withInitial(() -> false);
+    // the searches whose first page was sent from the current thread, released together
+    private static final ThreadLocal<List<Window>> STARTED = ThreadLocal.withInitial(ArrayList::new);
+
+    private final GitHubConnector delegate;
+    private final String endpoint;
+    private final int concurrency;
+    private final Integer maxResults;
+    private final RunContext runContext;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint    the API endpoint the searches are sent to
+     * @param concurrency maximum number of pages of a search requested or buffered ahead of the paginator
+     * @param maxResults  maximum number of hits read from a search, {@code null} to follow the {@code Link} header only
+     */
+    public PrefetchingGitHubConnector(GitHubConnector delegate, String endpoint, int concurrency, Integer maxResults, RunContext runContext) {
+        this.delegate = delegate;
+        this.endpoint = endpoint;
+        this.concurrency = Math.max(concurrency, 1);
+        this.maxResults = maxResults;
+        this.runContext = runContext;
+    }
+
+    /**
+     * Runs {@code probe} without prefetching the pages of the searches it sends from the current thread, e.g. a search
+     * only read for its total count.
+     */
+    public static <T> T withoutPrefetch(Supplier<T> probe) {
+        var previous = PROBING.get();
+        PROBING.set(true);
+        try {
+            return probe.get();
+        } finally {
+            PROBING.set(previous);
+        }
+    }
+
+    /**
+     * Cancels the pages still requested or buffered for the searches paginated from the current thread, to be called
+     * once their paginator is done, even when it stopped early or failed.
+     */
+    public static void release() {
+        var started = STARTED.get();
+        STARTED.remove();
+        started.forEach(Window::close);
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        // a first page starts the search over
+        var window = "GET".equals(request.method()) && pageOf(request.url()) > 1 ? windows.get(searchKey(request.url())) : null;
+        if (window != null) {
+            var pending = window.read(pageOf(request.url()));
+            if (pending != null) {
+                try {
+                    return pending.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a prefetched GitHub page");
+                } catch (ExecutionException | CancellationException e) {
+                    runContext.logger().debug("Prefetching '{}' failed, requesting it again", request.url(), e.getCause());
+                }
+            }
+        }
+
+        var response = delegate.send(request);
+
+        if (!PROBING.get() && "GET".equals(request.method()) && response.statusCode() == 200 && isFirstSearchPage(request.url())) {
+            lastPage(response.header("Link")).ifPresent(last -> start(request, last));
+        }
+
+        return response;
+    }
+
+    private void start(GitHubConnectorRequest first, URL last) {
+        var pages = pageOf(last);
+        if (maxResults != null) {
+            var pageSize = Math.max(parameter(first.url(), "per_page", DEFAULT_PAGE_SIZE), 1);
+            pages = Math.min(pages, (maxResults + pageSize - 1) / pageSize);
+        }
+
+        if (pages < 2) {
+            return;
+        }
+
+        var window = new Window(searchKey(first.url()), first, last, pages);
+        var previous = windows.put(window.key, window);
+        if (previous != null) {
+            previous.close();
+        }
+
+        var started = STARTED.get();
+        started.removeIf(Window::isClosed);
+        started.add(window);
+        window.read(1);
+    }
+
+    private GitHubConnectorResponse fetch(GitHubConnectorRequest request) throws IOException {
+        // read the body right away, the page may wait a while before the paginator reaches it
+        return BufferedResponse.of(delegate.send(request));
+    }
+
+    private boolean isFirstSearchPage(URL url) {
+        return GithubApiPaths.isSearch(endpoint, url.getPath()) && pageOf(url) == 1;
+    }
+
+    private static Optional<URL> lastPage(String link) {
+        if (link == null) {
+            return Optional.empty();
+        }
+
+        var matcher = LAST_LINK.matcher(link);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(URI.create(matcher.group(1)).toURL());
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static int pageOf(URL url) {
+        return parameter(url, "page", 1);
+    }
+
+    private static int parameter(URL url, String name, int defaultValue) {
+        var query = url.getQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+
+        for (var parameter : query.split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                try {
+                    return Integer.parseInt(parameter.substring(name.length() + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Identifies the pages of a search regardless of their number and of the order and encoding of their query
+     * parameters, which differ between the {@code Link} header and the URL built by the paginator.
+     */
+    static String searchKey(URL url) {
+        var parameters = new TreeSet<String>();
+        if (url.getQuery() != null) {
+            for (var parameter : url.getQuery().split("&")) {
+                if (!parameter.isEmpty() && !parameter.startsWith("page=")) {
+                    parameters.add(URLDecoder.decode(parameter, StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        return url.getHost() + url.getPath() + "?" + String.join("&", parameters);
+    }
+
+    /**
+     * The pages of a search requested or buffered ahead of its paginator.
+     */
+    private class Window {
+        private final String key;
+        private final GitHubConnectorRequest first;
+        private final URL last;
+        private final int pages;
+        private final Map<Integer, FutureTask<GitHubConnectorResponse>> pending = new HashMap<>();
+        private int scheduled = 1;
+        private int prefetched;
+        private volatile boolean closed;
+
+        private Window(String key, GitHubConnectorRequest first, URL last, int pages) {
+            this.key = key;
+            this.first = first;
+            this.last = last;
+            this.pages = pages;
+        }
+
+        /**
+         * Takes the page the paginator reads, if prefetched, and moves the window past it.
+         */
+        private synchronized FutureTask<GitHubConnectorResponse> read(int page) {
+            var future = pending.remove(page);
+
+            while (!closed && scheduled < pages && scheduled < page + concurrency) {
+                schedule(++scheduled);
+            }
+
+            if (page >= pages) {
+                close();
+            }
+
+            return future;
+        }
+
+        private void schedule(int page) {
+            URL url;
+            try {
+                url = URI.create(PAGE_PARAMETER.matcher(last.toString()).replaceFirst("$1page=" + page)).toURL();
+            } catch (MalformedURLException | IllegalArgumentException e) {
+                scheduled = pages;
+                return;
+            }
+
+            var future = new FutureTask<>(() -> fetch(new PageRequest(first, url)));
+            pending.put(page, future);
+            prefetched++;
+            Thread.ofVirtual().name("github-page-prefetch").start(future);
+        }
+
+        private boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Cancels the pages not read yet, interrupting the ones still waiting for the rate limiter or the response.
+         */
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            windows.remove(key, this);
+            pending.values().forEach(future -> future.cancel(true));
+            pending.clear();
+
+            synchronized (runContext) {
+                runContext.metric(Counter.of("pages.prefetched", prefetched));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.runners.RunContext;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Connector decorator that routes every request through the {@link GithubRateLimiter} of the credentials.
+ */
+public class RateLimitingGitHubConnector implements GitHubConnector {
+    private final GitHubConnector delegate;
+    private final GithubRateLimiter rateLimiter;
+    private final RunContext runContext;
+
+    public RateLimitingGitHubConnector(GitHubConnector delegate, GithubRateLimiter rateLimiter, RunContext runContext) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.runContext = runContext;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        var resource = rateLimiter.resourceOf(request.url().getPath());
+
+        try {
+            rateLimiter.acquire(resource, runContext);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the GitHub rate limit");
+        }
+
+        var response = delegate.send(request);
+        rateLimiter.update(resource, response.statusCode(), response::header);
+
+        return response;
+    }
+}
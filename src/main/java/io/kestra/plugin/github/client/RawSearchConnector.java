@@ -0,0 +1,186 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.kestra.core.serializers.JacksonMapper;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Connector decorator that copies the {@code items} of a search straight from the HTTP responses to an Ion output,
+ * token by token, without binding them to the GitHub client model.
+ * <p>
+ * Only the searches sent from {@link #export} are copied: the connector then follows the {@code Link} header itself
+ * and answers the paginator with a single page without items, so the client never parses a hit. Every other request
+ * goes through untouched.
+ */
+public class RawSearchConnector implements GitHubConnector {
+    private static final JsonFactory JSON_FACTORY = JacksonMapper.ofJson().getFactory();
+    private static final JsonFactory ION_FACTORY = JacksonMapper.ofIon().getFactory();
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>;\\s*rel=\"next\"");
+
+    private static final ThreadLocal<Export> EXPORT = new ThreadLocal<>();
+
+    private final GitHubConnector delegate;
+    private final String endpoint;
+
+    /**
+     * @param endpoint the API endpoint the searches are sent to
+     */
+    public RawSearchConnector(GitHubConnector delegate, String endpoint) {
+        this.delegate = delegate;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Runs {@code search}, copying the items of the searches it sends from the current thread to {@code output}, one
+     * Ion value per line.
+     *
+     * @param maxResults the maximum number of items to copy, {@code null} for all of them
+     */
+    public static Result export(OutputStream output, Integer maxResults, Runnable search) throws IOException {
+        try (var generator = ION_FACTORY.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            var export = new Export(output, generator, maxResults);
+            EXPORT.set(export);
+            try {
+                search.run();
+            } finally {
+                EXPORT.remove();
+            }
+
+            return new Result(export.size, export.pages, export.total);
+        }
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        var export = EXPORT.get();
+        if (export == null || !"GET".equals(request.method()) || !GithubApiPaths.isSearch(endpoint, request.url().getPath())) {
+            return delegate.send(request);
+        }
+
+        GitHubConnectorRequest page = request;
+        boolean incomplete = false;
+        Map<String, List<String>> headers = Map.of();
+
+        while (page != null) {
+            try (var response = delegate.send(page)) {
+                // let the client raise its usual error
+                if (response.statusCode() != 200) {
+                    return BufferedResponse.of(response);
+                }
+
+                if (page == request) {
+                    headers = BufferedResponse.transportFree(response.allHeaders());
+                    headers.remove("Link");
+                }
+
+                incomplete |= export.copy(response);
+                page = export.isFull() ? null : nextPage(request, response.header("Link"));
+            }
+        }
+
+        var body = "{\"total_count\":%d,\"incomplete_results\":%s,\"items\":[]}".formatted(export.total == null ? 0 : export.total, incomplete);
+        return new BufferedResponse(request, 200, headers, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static GitHubConnectorRequest nextPage(GitHubConnectorRequest request, String link) {
+        if (link == null) {
+            return null;
+        }
+
+        var matcher = NEXT_LINK.matcher(link);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        try {
+            return new PageRequest(request, URI.create(matcher.group(1)).toURL());
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param total the total hits reported by GitHub, {@code null} when no page was read
+     */
+    public record Result(int size, int pages, Long total) {
+    }
+
+    private static class Export {
+        private final OutputStream output;
+        private final JsonGenerator generator;
+        private final Integer maxResults;
+        private int size;
+        private int pages;
+        private Long total;
+
+        private Export(OutputStream output, JsonGenerator generator, Integer maxResults) {
+            this.output = output;
+            this.generator = generator;
+            this.maxResults = maxResults;
+        }
+
+        private boolean isFull() {
+            return maxResults != null && size >= maxResults;
+        }
+
+        /**
+         * @return whether GitHub flagged the page as incomplete
+         */
+        private boolean copy(GitHubConnectorResponse response) throws IOException {
+            pages++;
+            boolean incomplete = false;
+
+            try (JsonParser parser = JSON_FACTORY.createParser(response.bodyStream())) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Unexpected search response from " + response.request().url());
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    var field = parser.currentName();
+                    var token = parser.nextToken();
+
+                    switch (field) {
+                        case "total_count" -> total = parser.getLongValue();
+                        case "incomplete_results" -> incomplete = token == JsonToken.VALUE_TRUE;
+                        case "items" -> {
+                            if (token != JsonToken.START_ARRAY) {
+                                continue;
+                            }
+
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                if (isFull()) {
+                                    parser.skipChildren();
+                                    continue;
+                                }
+
+                                generator.copyCurrentStructure(parser);
+                                generator.flush();
+                                output.write('\n');
+                                size++;
+                            }
+                        }
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+
+            return incomplete;
+        }
+    }
+}
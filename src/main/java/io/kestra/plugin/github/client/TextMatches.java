@@ -0,0 +1,129 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.serializers.JacksonMapper;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Text fragments matched by the hits of a search, returned by the search API itself with the {@code text-match} media
+ * type, so that no hit needs another request. The GitHub client model drops them, so the connector returned by
+ * {@link #decorate} reads them from the responses.
+ * <p>
+ * Fragments are keyed by the API {@code url} of the hit and kept until the hit is mapped with {@link #remove}. Every
+ * request other than a search goes through untouched.
+ */
+public class TextMatches {
+    public static final String MEDIA_TYPE = "application/vnd.github.text-match+json";
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final TypeReference<List<Map<String, Object>>> FRAGMENTS = new TypeReference<>() {};
+
+    private final String endpoint;
+    private final boolean capture;
+    private final Map<String, List<Map<String, Object>>> fragments = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint the API endpoint the searches are sent to
+     * @param capture  whether the fragments are kept for {@link #remove}, or only left in the responses, e.g. for the
+     *                 {@link RawSearchConnector} which copies them with the items
+     */
+    public TextMatches(String endpoint, boolean capture) {
+        this.endpoint = endpoint;
+        this.capture = capture;
+    }
+
+    /**
+     * @return a connector requesting the {@code text-match} media type for the searches sent through it
+     */
+    public GitHubConnector decorate(GitHubConnector delegate) {
+        return request -> send(delegate, request);
+    }
+
+    /**
+     * @param url the API URL of the hit
+     * @return the fragments matched by the hit, {@code null} when the search did not return any
+     */
+    public List<Map<String, Object>> remove(String url) {
+        return url == null ? null : fragments.remove(url);
+    }
+
+    private GitHubConnectorResponse send(GitHubConnector delegate, GitHubConnectorRequest request) throws IOException {
+        if (!"GET".equals(request.method()) || !GithubApiPaths.isSearch(endpoint, request.url().getPath())) {
+            return delegate.send(request);
+        }
+
+        var response = delegate.send(new TextMatchRequest(request));
+        if (!capture || response.statusCode() != 200) {
+            return response;
+        }
+
+        // the client still has to parse the page, so it is read once here and replayed
+        var buffered = BufferedResponse.of(response);
+        for (var item : MAPPER.readTree(buffered.body()).path("items")) {
+            var url = item.path("url").asText(null);
+            if (url != null && item.path("text_matches").isArray()) {
+                fragments.put(url, MAPPER.convertValue(item.get("text_matches"), FRAGMENTS));
+            }
+        }
+
+        return buffered;
+    }
+
+    private static class TextMatchRequest implements GitHubConnectorRequest {
+        private final GitHubConnectorRequest delegate;
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        private TextMatchRequest(GitHubConnectorRequest delegate) {
+            this.delegate = delegate;
+            this.headers.putAll(delegate.allHeaders());
+            this.headers.put("Accept", List.of(MEDIA_TYPE));
+        }
+
+        @Override
+        public String method() {
+            return delegate.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            var values = headers.get(name);
+            return values == null || values.isEmpty() ? null : String.join(",", values);
+        }
+
+        @Override
+        public String contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return delegate.body();
+        }
+
+        @Override
+        public URL url() {
+            return delegate.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return delegate.hasBody();
+        }
+    }
+}
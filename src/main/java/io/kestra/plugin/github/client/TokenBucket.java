@@ -0,0 +1,51 @@
+package io.kestra.plugin.github.client;
+
+/**
+ * Minimal token bucket: {@code capacity} permits, refilled continuously at {@code permitsPerSecond}.
+ * <p>
+ * Not thread-safe on its own, callers synchronize on the owning limiter.
+ */
+class TokenBucket {
+    private double capacity;
+    private double permitsPerMillis;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double capacity, double permitsPerSecond, long now) {
+        this.capacity = capacity;
+        this.permitsPerMillis = permitsPerSecond / 1000d;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * @return the number of milliseconds to wait before a permit is available, {@code 0} when one was consumed
+     */
+    long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerMillis);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) / permitsPerMillis);
+    }
+
+    /**
+     * Lowers the capacity and refill rate, keeping the permits left up to the new capacity.
+     */
+    void slowDown(double capacity, double permitsPerSecond, long now) {
+        tokens = Math.min(this.capacity, tokens + (now - lastRefill) * permitsPerMillis);
+        lastRefill = now;
+
+        this.capacity = capacity;
+        this.permitsPerMillis = permitsPerSecond / 1000d;
+        tokens = Math.min(capacity, tokens);
+    }
+
+    void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+}
@@ -0,0 +1,66 @@
+package io.kestra.plugin.github.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Worker-scoped LRU cache of the user and organization profiles resolved by {@link GraphqlUserResolver}, keyed by
+ * credentials and login so that the {@code users.Search} runs of a worker share it. Other tasks, e.g. the reviewers
+ * of {@code pulls.Create}, still load users with the REST client and neither read nor fill it.
+ * <p>
+ * Entries do not expire by themselves: each reader passes the maximum age it accepts.
+ */
+public final class UserProfileCache {
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final UserProfileCache INSTANCE = new UserProfileCache(MAX_ENTRIES, Clock.systemUTC());
+
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+
+    UserProfileCache(int maxEntries, Clock clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static UserProfileCache getInstance() {
+        return INSTANCE;
+    }
+
+    Optional<JsonNode> get(GithubClientPool.Key key, String login, Duration maxAge) {
+        synchronized (entries) {
+            var entry = entries.get(cacheKey(key, login));
+            if (entry == null || entry.loadedAt() + maxAge.toMillis() < clock.millis()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(entry.profile());
+        }
+    }
+
+    void put(GithubClientPool.Key key, String login, JsonNode profile) {
+        synchronized (entries) {
+            entries.put(cacheKey(key, login), new Entry(profile, clock.millis()));
+        }
+    }
+
+    // logins are case-insensitive; some profile fields, e.g. the private repositories, depend on the credentials
+    private static String cacheKey(GithubClientPool.Key key, String login) {
+        return key.endpoint() + "|" + key.credentials() + "|" + login.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(JsonNode profile, long loadedAt) {
+    }
+}
@@ -0,0 +1,202 @@
+package io.kestra.plugin.github.code;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.github.client.GithubRateLimiter;
+import org.kohsuke.github.GHContent;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwSupplier;
+
+/**
+ * Contents of the files matched by a code search, copied to internal storage before the hits of a page are mapped.
+ * <p>
+ * Files are downloaded from the Git blob API by SHA, at most {@code concurrency} at a time, streamed to a local file
+ * then uploaded, never held in memory. A blob shared by several hits is downloaded once, and as blobs never change,
+ * the internal storage URI of a blob can be kept in the KV store of the flow namespace for the next executions. They
+ * copy the cached file into their own storage, without any API call, so their outputs never point to the files of
+ * another execution; a cached file removed since, e.g. by the execution purge, is downloaded again.
+ */
+class BlobContents implements Closeable {
+    private static final String KEY_PREFIX = "github-blob-";
+    private static final Duration TTL = Duration.ofDays(30);
+    private static final String RAW_MEDIA_TYPE = "application/vnd.github.raw+json";
+    private static final String API_VERSION_HEADER = "2022-11-28";
+
+    private final RunContext runContext;
+    private final String endpoint;
+    private final String authorization;
+    private final GithubRateLimiter rateLimiter;
+    private final KVStore kvStore;
+    private final ExecutorService executor;
+    private final Map<String, CompletableFuture<URI>> blobs = new ConcurrentHashMap<>();
+    private HttpClient client;
+
+    /**
+     * @param endpoint  the REST API endpoint, e.g. {@code https://api.github.com}
+     * @param persisted whether the URIs of the blobs are kept in the KV store for the next executions
+     */
+    BlobContents(RunContext runContext, String endpoint, String authorization, GithubRateLimiter rateLimiter, boolean persisted, int concurrency) {
+        this.runContext = runContext;
+        this.endpoint = endpoint.strip().replaceFirst("/+$", "");
+        this.authorization = authorization;
+        this.rateLimiter = rateLimiter;
+        this.kvStore = persisted ? runContext.namespaceKv(runContext.flowInfo().namespace()) : null;
+        this.executor = Executors.newFixedThreadPool(Math.max(concurrency, 1), Thread.ofVirtual().factory());
+    }
+
+    void resolve(List<GHContent> page) throws Exception {
+        var futures = new ArrayList<CompletableFuture<URI>>();
+        for (var hit : page) {
+            if (hit.getSha() != null && hit.getOwner() != null) {
+                futures.add(blobs.computeIfAbsent(hit.getSha(), sha -> CompletableFuture.supplyAsync(throwSupplier(() -> load(hit)), executor)));
+            }
+        }
+
+        for (var future : futures) {
+            join(future);
+        }
+    }
+
+    /**
+     * @return the internal storage URI of the content of the hit, {@code null} when it was not resolved
+     */
+    URI get(GHContent hit) throws Exception {
+        var future = hit.getSha() == null ? null : blobs.get(hit.getSha());
+        return future == null ? null : join(future);
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private URI load(GHContent hit) throws Exception {
+        var key = KEY_PREFIX + hit.getSha();
+
+        if (kvStore != null) {
+            var cached = kvStore.getValue(key).map(value -> URI.create(value.value().toString())).orElse(null);
+            var copy = cached == null ? null : copy(hit, cached);
+            if (copy != null) {
+                metric("code.content.cache.hits", 1);
+                return copy;
+            }
+        }
+
+        var uri = download(hit);
+        if (kvStore != null) {
+            kvStore.put(key, new KVValueAndMetadata(new KVMetadata("GitHub blob content", TTL), uri.toString()));
+        }
+
+        return uri;
+    }
+
+    private URI download(GHContent hit) throws Exception {
+        var request = HttpRequest.builder()
+            .uri(URI.create(endpoint + "/repos/" + hit.getOwner().getFullName() + "/git/blobs/" + hit.getSha()))
+            .method("GET")
+            .addHeader("Accept", RAW_MEDIA_TYPE)
+            .addHeader("X-GitHub-Api-Version", API_VERSION_HEADER);
+
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+
+        var file = tempFile(hit);
+        try {
+            rateLimiter.send(client(), request.build(), throwConsumer(response -> {
+                if (response.getStatus().getCode() != 200) {
+                    throw new IllegalStateException("Unable to download the blob " + hit.getSha() + " of " + hit.getPath() + ", status code: " + response.getStatus().getCode());
+                }
+
+                try (var body = response.getBody()) {
+                    Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }), runContext);
+
+            metric("code.content.downloads", 1);
+            metric("code.content.bytes", Files.size(file));
+
+            return runContext.storage().putFile(file.toFile());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private synchronized HttpClient client() throws Exception {
+        if (client == null) {
+            client = new HttpClient(runContext, HttpConfiguration.builder().build());
+        }
+
+        return client;
+    }
+
+    /**
+     * @return the URI of the copy of the cached file in the storage of this execution, {@code null} when it is gone
+     */
+    private URI copy(GHContent hit, URI cached) throws IOException {
+        var file = tempFile(hit);
+        try {
+            try (var input = runContext.storage().getFile(cached)) {
+                Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (FileNotFoundException e) {
+                return null;
+            } catch (IOException | IllegalArgumentException e) {
+                runContext.logger().debug("Cached blob {} is not readable, downloading it again", cached, e);
+                return null;
+            }
+
+            return runContext.storage().putFile(file.toFile());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Path tempFile(GHContent hit) throws IOException {
+        var name = hit.getName() == null ? "" : hit.getName();
+        return runContext.workingDir().createTempFile(name.contains(".") ? name.substring(name.lastIndexOf('.')) : null);
+    }
+
+    private void metric(String name, long value) {
+        synchronized (runContext) {
+            runContext.metric(Counter.of(name, value));
+        }
+    }
+
+    private static URI join(CompletableFuture<URI> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.client.TextMatches;
+import io.kestra.plugin.github.model.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -17,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -91,6 +94,11 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         private final GHFork value;
     }
 
+    public enum ContentCache {
+        NONE,
+        KV
+    }
+
     @Schema(
         title = "Search keywords and qualifiers",
         description = "GitHub code search syntax combining keywords with qualifiers like repo, path, language."
@@ -179,9 +187,58 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "processing")
     private Property<Sort> sort = Property.ofValue(Sort.BEST_MATCH);
 
+    @Schema(
+        title = "Copy the content of the matched files to internal storage",
+        description = """
+            Downloads each matched file from the Git blob API and adds its internal storage URI as a `content_uri` column. Files are streamed \
+            to storage, at most `contentConcurrency` at a time, and a blob matched several times is downloaded once. Each download counts \
+            against the core rate limit. Cannot be combined with `raw`, whose rows have no computed columns.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> fetchContent = Property.ofValue(false);
+
+    @Schema(
+        title = "Files downloaded in parallel",
+        description = "Maximum number of file contents downloaded at the same time when `fetchContent` is enabled."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> contentConcurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Cache of the downloaded file contents",
+        description = """
+            Blobs are identified by their SHA and never change. `KV` keeps the internal storage URI of each downloaded blob in the KV \
+            store of the flow namespace, so that the next executions reuse it instead of downloading the file again, as long as the file was \
+            not purged. Like every cache of the plugin writing to the KV store, it is opt-in: `NONE` (default) downloads the files on every \
+            execution.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<ContentCache> contentCache = Property.ofValue(ContentCache.NONE);
+
+    @Schema(
+        title = "Return the text fragments matched by each hit",
+        description = """
+            Requests the `text-match` media type, so the search API returns the fragments of text matched by each hit along with it, \
+            written as a `text_matches` column: the `fragment`, the `property` it was found in, and the `indices` of each match in it. \
+            No request is added, unlike reading the matched files afterwards.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> textMatches = Property.ofValue(false);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
+        TextMatches matches = runContext.render(this.textMatches).as(Boolean.class).orElse(false)
+            ? new TextMatches(clientKey(runContext).endpoint(), !isRaw(runContext) && fields.contains("text_matches"))
+            : null;
+        GitHub gitHub = matches == null ? connect(runContext) : connect(runContext, matches::decorate);
 
         GHContentSearchBuilder searchBuilder = gitHub.searchContent();
 
@@ -201,16 +258,45 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         runContext.render(this.size).as(String.class).ifPresent(searchBuilder::size);
 
         PagedSearchIterable<GHContent> codes = searchBuilder.list();
-
-        return handleFetch(
+        var rFetchType = runContext.render(fetchType).as(FetchType.class).orElseThrow();
+        var rFetchContent = runContext.render(this.fetchContent).as(Boolean.class).orElse(false);
+
+        if (rFetchContent && isRaw(runContext)) {
+            throw new IllegalArgumentException("`raw` cannot be combined with `fetchContent`, the raw rows have no `content_uri` column");
+        }
+
+        if (!rFetchContent || rFetchType == FetchType.NONE || !fields.contains("content_uri")) {
+            return handleFetch(
+                runContext,
+                codes,
+                throwFunction(code -> fields.project(getCodeDetails(code, fields, matches))),
+                rFetchType
+            );
+        }
+
+        try (var contents = new BlobContents(
             runContext,
-            codes.toList(),
-            throwFunction(Search::getCodeDetails),
-            runContext.render(fetchType).as(FetchType.class).orElseThrow()
-        );
+            clientKey(runContext).endpoint(),
+            resolveAuthorizationHeader(runContext),
+            rateLimiter(runContext),
+            runContext.render(this.contentCache).as(ContentCache.class).orElse(ContentCache.NONE) == ContentCache.KV,
+            runContext.render(this.contentConcurrency).as(Integer.class).orElse(4)
+        )) {
+            return handleFetch(
+                runContext,
+                codes,
+                throwConsumer(contents::resolve),
+                throwFunction(code -> {
+                    var details = getCodeDetails(code, fields, matches);
+                    details.put("content_uri", contents.get(code));
+                    return fields.project(details);
+                }),
+                rFetchType
+            );
+        }
     }
 
-    private static Map<String, Object> getCodeDetails(GHContent code) throws IOException {
+    private static Map<String, Object> getCodeDetails(GHContent code, Fields fields, TextMatches matches) throws IOException {
         Map<String, Object> body = new LinkedHashMap<>();
         Optional.ofNullable(code.getOwner()).map(GHRepository::getName).ifPresent(text -> body.put("repository_name", text));
         Optional.ofNullable(code.getOwner()).map(GHRepository::getHtmlUrl).ifPresent(text -> body.put("repository_url", text));
@@ -219,17 +305,28 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
 
         Optional.ofNullable(code.getSha()).ifPresent(text -> body.put("sha", text));
 
-        Optional.ofNullable(code.getTarget()).ifPresent(text -> body.put("target", text));
+        // not part of the search results, each of them loads the file
+        if (fields.contains("target")) {
+            Optional.ofNullable(code.getTarget()).ifPresent(text -> body.put("target", text));
+        }
         Optional.ofNullable(code.getType()).ifPresent(text -> body.put("type", text));
-        Optional.ofNullable(code.getDownloadUrl()).ifPresent(text -> body.put("download_url", text));
+        if (fields.contains("download_url")) {
+            Optional.ofNullable(code.getDownloadUrl()).ifPresent(text -> body.put("download_url", text));
+        }
 
         Optional.ofNullable(code.getGitUrl()).ifPresent(text -> body.put("git_url", text));
 
-        Optional.ofNullable(code.getEncoding()).ifPresent(text -> body.put("encoding", text));
+        if (fields.contains("encoding")) {
+            Optional.ofNullable(code.getEncoding()).ifPresent(text -> body.put("encoding", text));
+        }
         Optional.ofNullable(code.getPath()).ifPresent(text -> body.put("path", text));
 
         Optional.ofNullable(code.getHtmlUrl()).ifPresent(text -> body.put("url", text));
 
+        if (matches != null && fields.contains("text_matches")) {
+            Optional.ofNullable(matches.remove(code.getUrl())).ifPresent(fragments -> body.put("text_matches", fragments));
+        }
+
         return body;
     }
 
@@ -0,0 +1,163 @@
+package io.kestra.plugin.github.commits;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCommitStatus;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Statistics and last status of the commits of a page of hits, loaded concurrently before the hits are mapped, on an
+ * executor shared by every page of the run.
+ * <p>
+ * The statistics of a commit never change: they can be kept in the KV store of the flow namespace for {@link #TTL},
+ * written once when first requested. Its statuses do, so the last status is always requested and never stored.
+ * Resolved details are kept until the hit is mapped with {@link #remove}.
+ */
+class CommitDetailsCache implements Closeable {
+    private static final String KEY_PREFIX = "github-commit-";
+    private static final Duration TTL = Duration.ofDays(90);
+
+    private final RunContext runContext;
+    private final KVStore kvStore;
+    private final boolean stats;
+    private final boolean status;
+    private final ExecutorService executor;
+    private final Map<String, Details> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param persisted whether the statistics are read from and written to the KV store, or only fetched concurrently
+     * @param stats     whether the line statistics are needed
+     * @param status    whether the last status is needed
+     */
+    CommitDetailsCache(RunContext runContext, boolean persisted, boolean stats, boolean status, int concurrency) {
+        this.runContext = runContext;
+        // only the statistics are kept, there is nothing to store for the status alone
+        this.kvStore = persisted && stats ? runContext.namespaceKv(runContext.flowInfo().namespace()) : null;
+        this.stats = stats;
+        this.status = status;
+        this.executor = Executors.newFixedThreadPool(Math.max(concurrency, 1), Thread.ofVirtual().factory());
+    }
+
+    void resolve(List<GHCommit> page) throws Exception {
+        var futures = new ArrayList<Future<?>>();
+        for (var commit : page) {
+            futures.add(executor.submit(() -> {
+                resolved.put(commit.getSHA1(), load(commit));
+                return null;
+            }));
+        }
+
+        for (var future : futures) {
+            join(future);
+        }
+    }
+
+    /**
+     * @return the resolved details, or {@code null} when they were not resolved so the commit getters must be used
+     */
+    Details remove(GHCommit commit) {
+        return commit.getSHA1() == null ? null : resolved.remove(commit.getSHA1());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Details load(GHCommit commit) throws Exception {
+        var cached = stats ? cachedStats(commit) : null;
+        var lastStatus = status ? Optional.ofNullable(commit.getLastStatus()).map(GHCommitStatus::getContext).orElse(null) : null;
+
+        if (cached != null) {
+            return new Details(cached.linesChanged(), cached.linesAdded(), cached.linesDeleted(), lastStatus);
+        }
+
+        var details = new Details(
+            stats ? commit.getLinesChanged() : null,
+            stats ? commit.getLinesAdded() : null,
+            stats ? commit.getLinesDeleted() : null,
+            lastStatus
+        );
+
+        if (kvStore != null) {
+            kvStore.put(key(commit), new KVValueAndMetadata(new KVMetadata("GitHub commit statistics", TTL), details.toMap()));
+        }
+
+        return details;
+    }
+
+    /**
+     * @return the statistics kept by a previous execution, {@code null} when not persisted or not found
+     */
+    private Details cachedStats(GHCommit commit) throws Exception {
+        if (kvStore == null) {
+            return null;
+        }
+
+        var cached = kvStore.getValue(key(commit))
+            .map(value -> value.value() instanceof Map<?, ?> map ? Details.of(map) : null)
+            .filter(details -> details.linesChanged() != null)
+            .orElse(null);
+
+        synchronized (runContext) {
+            runContext.metric(Counter.of(cached == null ? "commits.cache.misses" : "commits.cache.hits", 1));
+        }
+
+        return cached;
+    }
+
+    // a SHA is only unique within a repository and its forks
+    private static String key(GHCommit commit) {
+        return KEY_PREFIX + (commit.getOwner() == null ? "" : commit.getOwner().getId() + "-") + commit.getSHA1();
+    }
+
+    private static void join(Future<?> future) throws Exception {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    record Details(Integer linesChanged, Integer linesAdded, Integer linesDeleted, String lastStatus) {
+        private static Details of(Map<?, ?> map) {
+            return new Details(
+                integer(map.get("lines_changed")),
+                integer(map.get("lines_added")),
+                integer(map.get("lines_deleted")),
+                null
+            );
+        }
+
+        private Map<String, Object> toMap() {
+            var map = new HashMap<String, Object>();
+            map.put("lines_changed", linesChanged);
+            map.put("lines_added", linesAdded);
+            map.put("lines_deleted", linesDeleted);
+            return map;
+        }
+
+        private static Integer integer(Object value) {
+            return value instanceof Number number ? number.intValue() : null;
+        }
+    }
+}
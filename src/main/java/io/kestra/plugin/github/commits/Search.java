@@ -6,7 +6,10 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.github.AbstractGithubIncrementalSearchTask;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.Incremental;
+import io.kestra.plugin.github.model.Fields;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -19,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -64,7 +68,7 @@ import io.kestra.core.models.annotations.PluginProperty;
         )
     }
 )
-public class Search extends AbstractGithubSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
+public class Search extends AbstractGithubIncrementalSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
 
     @RequiredArgsConstructor
     public enum Order {
@@ -82,6 +86,11 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         private final GHCommitSearchBuilder.Sort value;
     }
 
+    public enum CommitCache {
+        NONE,
+        KV
+    }
+
     @Schema(
         title = "Search keywords and qualifiers",
         description = "Commit search syntax combining keywords with qualifiers like repo, author, path."
@@ -217,6 +226,27 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "processing")
     private Property<Sort> sort = Property.ofValue(Sort.COMMITTER_DATE);
 
+    @Schema(
+        title = "Cache of the commit statistics and statuses",
+        description = """
+            `lines_changed`, `lines_added` and `lines_deleted` are not part of the search results and cost a request per commit. They never change: \
+            `KV` keeps them in the KV store of the flow namespace, keyed by repository and SHA, so that the next executions returning the same commits \
+            do not request them again. `last_status` changes and is always requested. Like every cache of the plugin writing to the KV store, it is \
+            opt-in: `NONE` (default) requests the statistics on every execution. Hits and misses are reported as `commits.cache.*` metrics.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<CommitCache> commitCache = Property.ofValue(CommitCache.NONE);
+
+    @Schema(
+        title = "Commits whose details are requested in parallel",
+        description = "Maximum number of commits of a page whose statistics and status are read from the cache or requested at the same time, on virtual threads."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> detailsConcurrency = Property.ofValue(8);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         GitHub gitHub = connect(runContext);
@@ -225,6 +255,47 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             return Output.builder().build();
         }
 
+        Fields fields = resolveFields(runContext);
+        Incremental<GHCommit> incremental = incremental(
+            runContext,
+            "committer-date:>",
+            throwFunction(commit -> Optional.ofNullable(commit.getCommitDate()).map(Date::toInstant).orElse(null))
+        );
+
+        PagedSearchIterable<GHCommit> commits = incremental.search(throwFunction(qualifier -> search(runContext, gitHub, qualifier))).apply(null);
+
+        var rFetchType = runContext.render(fetchType).as(FetchType.class).orElseThrow();
+        var stats = fields.containsAny("lines_changed", "lines_added", "lines_deleted");
+        var status = fields.contains("last_status");
+
+        if (!(stats || status) || rFetchType == FetchType.NONE) {
+            return incremental.save(handleFetch(
+                runContext,
+                commits,
+                incremental.track(throwFunction(commit -> fields.project(getCommitDetails(commit, gitHub.isAnonymous(), fields, null)))),
+                rFetchType
+            ));
+        }
+
+        // the details of a whole page are loaded before its hits are mapped
+        try (var details = new CommitDetailsCache(
+            runContext,
+            runContext.render(this.commitCache).as(CommitCache.class).orElse(CommitCache.NONE) == CommitCache.KV,
+            stats,
+            status,
+            runContext.render(this.detailsConcurrency).as(Integer.class).orElse(8)
+        )) {
+            return incremental.save(handleFetch(
+                runContext,
+                commits,
+                throwConsumer(details::resolve),
+                incremental.track(throwFunction(commit -> fields.project(getCommitDetails(commit, gitHub.isAnonymous(), fields, details.remove(commit))))),
+                rFetchType
+            ));
+        }
+    }
+
+    private PagedSearchIterable<GHCommit> search(RunContext runContext, GitHub gitHub, String qualifier) throws Exception {
         GHCommitSearchBuilder searchBuilder = gitHub.searchCommits();
 
         searchBuilder
@@ -249,32 +320,38 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         runContext.render(this.committerName).as(String.class).ifPresent(searchBuilder::committerName);
         runContext.render(this.merge).as(Boolean.class).ifPresent(searchBuilder::merge);
 
-        PagedSearchIterable<GHCommit> commits = searchBuilder.list();
+        // the watermark of an incremental search
+        if (qualifier != null) {
+            searchBuilder.q(qualifier);
+        }
 
-        return handleFetch(
-            runContext,
-            commits.toList(),
-            throwFunction(commit -> getCommitDetails(commit, gitHub.isAnonymous())),
-            runContext.render(fetchType).as(FetchType.class).orElseThrow()
-        );
+        return searchBuilder.list();
     }
 
-    private static Map<String, Object> getCommitDetails(GHCommit commit, boolean isAnonymous) throws IOException {
+    /**
+     * @param details the statistics and status loaded for the page, {@code null} to request them from the commit
+     */
+    private static Map<String, Object> getCommitDetails(GHCommit commit, boolean isAnonymous, Fields fields, CommitDetailsCache.Details details) throws IOException {
         Map<String, Object> body = new LinkedHashMap<>();
         Optional
             .ofNullable(commit.getSHA1())
             .ifPresent(text -> body.put("sha", text));
 
-        Optional
-            .ofNullable(commit.getAuthor())
-            .filter(Predicate.not(o -> isAnonymous))
-            .map(GHPerson::getLogin)
-            .ifPresent(text -> body.put("author", text));
+        // resolving the author and committer loads their user profile
+        if (fields.contains("author")) {
+            Optional
+                .ofNullable(commit.getAuthor())
+                .filter(Predicate.not(o -> isAnonymous))
+                .map(GHPerson::getLogin)
+                .ifPresent(text -> body.put("author", text));
+        }
 
-        Optional
-            .ofNullable(commit.getCommitter())
-            .map(GHPerson::getLogin)
-            .ifPresent(text -> body.put("committer", text));
+        if (fields.contains("committer")) {
+            Optional
+                .ofNullable(commit.getCommitter())
+                .map(GHPerson::getLogin)
+                .ifPresent(text -> body.put("committer", text));
+        }
 
         Optional
             .ofNullable(commit.getAuthoredDate())
@@ -294,9 +371,12 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             .map(GHCommit.ShortInfo::getMessage)
             .ifPresent(text -> body.put("message", text));
 
-        body.put("lines_changed", commit.getLinesChanged());
-        body.put("lines_added", commit.getLinesAdded());
-        body.put("lines_deleted", commit.getLinesDeleted());
+        // the stats are not part of the search results, reading any of them loads the full commit
+        if (fields.containsAny("lines_changed", "lines_added", "lines_deleted")) {
+            body.put("lines_changed", details != null ? details.linesChanged() : commit.getLinesChanged());
+            body.put("lines_added", details != null ? details.linesAdded() : commit.getLinesAdded());
+            body.put("lines_deleted", details != null ? details.linesDeleted() : commit.getLinesDeleted());
+        }
 
         Optional
             .ofNullable(commit.getTree())
@@ -307,10 +387,18 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             .map(GHTree::getUrl)
             .ifPresent(text -> body.put("tree_url", text));
 
-        Optional
-            .ofNullable(commit.getLastStatus())
-            .map(GHCommitStatus::getContext)
-            .ifPresent(text -> body.put("last_status", text));
+        if (fields.contains("last_status")) {
+            if (details != null) {
+                Optional
+                    .ofNullable(details.lastStatus())
+                    .ifPresent(text -> body.put("last_status", text));
+            } else {
+                Optional
+                    .ofNullable(commit.getLastStatus())
+                    .map(GHCommitStatus::getContext)
+                    .ifPresent(text -> body.put("last_status", text));
+            }
+        }
 
         Optional
             .ofNullable(commit.getHtmlUrl())
@@ -240,7 +240,7 @@ public class Create extends AbstractGithubTask implements RunnableTask<Create.Ou
                 .addHeader("Accept", "application/vnd.github+json")
                 .addHeader("X-GitHub-Api-Version", FIELD_VALUES_API_VERSION)
                 .build();
-            var response = client.request(request, String.class);
+            var response = rateLimiter(runContext).send(client, request, String.class, runContext);
             var status = response.getStatus().getCode();
             if (status < 200 || status >= 300) {
                 var body = response.getBody();
@@ -311,7 +311,7 @@ public class Create extends AbstractGithubTask implements RunnableTask<Create.Ou
                 .addHeader("Accept", "application/vnd.github+json")
                 .addHeader("X-GitHub-Api-Version", FIELD_VALUES_API_VERSION)
                 .build();
-            var restResponse = client.request(restRequest, String.class);
+            var restResponse = rateLimiter(runContext).send(client, restRequest, String.class, runContext);
             var restStatus = restResponse.getStatus().getCode();
 
             if (restStatus == 200) {
@@ -365,7 +365,7 @@ public class Create extends AbstractGithubTask implements RunnableTask<Create.Ou
             .addHeader("Content-Type", "application/json")
             .addHeader("Accept", "application/json")
             .build();
-        var graphqlResponse = client.request(graphqlRequest, String.class);
+        var graphqlResponse = rateLimiter(runContext).send(client, graphqlRequest, String.class, runContext);
         var graphqlStatus = graphqlResponse.getStatus().getCode();
 
         if (graphqlStatus == 404) {
@@ -7,12 +7,21 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.AbstractGithubShardedSearchTask;
+import io.kestra.plugin.github.Incremental;
+import io.kestra.plugin.github.client.GraphqlNodeResolver;
+import io.kestra.plugin.github.client.TextMatches;
+import io.kestra.plugin.github.model.Fields;
 import io.kestra.plugin.github.model.IssueDetails;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.kohsuke.github.*;
 
+import java.util.Date;
+import java.util.Optional;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -58,7 +67,7 @@ import io.kestra.core.models.annotations.PluginProperty;
         )
     }
 )
-public class Search extends AbstractGithubSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
+public class Search extends AbstractGithubShardedSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
 
     @RequiredArgsConstructor
     public enum Order {
@@ -135,10 +144,61 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "destination")
     private Property<String> repository;
 
+    @Schema(
+        title = "How to load the columns missing from the search results",
+        description = """
+            `repository_name`, `repository_url` and `closed_by` are not part of the search results. `REST` (default) loads them with extra requests for every hit, \
+            `GRAPHQL` resolves them for a whole page with a single `nodes(ids:)` GraphQL query. GraphQL requires authentication, \
+            anonymous runs fall back to `REST`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Enrichment> enrichment = Property.ofValue(Enrichment.REST);
+
+    @Schema(
+        title = "Return the text fragments matched by each hit",
+        description = """
+            Requests the `text-match` media type, so the search API returns the fragments of text matched by each hit along with it, \
+            written as a `text_matches` column: the `fragment`, the `property` it was found in, and the `indices` of each match in it. \
+            No request is added, unlike reading the matched issues or comments afterwards.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> textMatches = Property.ofValue(false);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
+        TextMatches matches = runContext.render(this.textMatches).as(Boolean.class).orElse(false)
+            ? new TextMatches(clientKey(runContext).endpoint(), !isRaw(runContext) && fields.contains("text_matches"))
+            : null;
+        GitHub gitHub = matches == null ? connect(runContext) : connect(runContext, matches::decorate);
+        GraphqlNodeResolver resolver = nodeResolver(runContext, runContext.render(this.enrichment).as(Enrichment.class).orElseThrow(), IssueDetails.GRAPHQL_SELECTION);
+
+        Incremental<GHIssue> incremental = incremental(
+            runContext,
+            "updated:>=",
+            throwFunction(issue -> Optional.ofNullable(issue.getUpdatedAt()).map(Date::toInstant).orElse(null))
+        );
+
+        return incremental.save(handleShardedFetch(
+            runContext,
+            incremental.search(throwFunction(qualifier -> search(runContext, gitHub, qualifier))),
+            resolver == null ? null : throwConsumer(resolver::resolve),
+            incremental.track(throwFunction(issue -> {
+                var details = new IssueDetails(issue, gitHub.isAnonymous(), fields, resolver == null ? null : resolver.remove(issue)).toMap();
+                if (matches != null && fields.contains("text_matches")) {
+                    Optional.ofNullable(matches.remove(issue.getUrl().toString())).ifPresent(fragments -> details.put("text_matches", fragments));
+                }
+                return fields.project(details);
+            })),
+            runContext.render(fetchType).as(FetchType.class).orElseThrow()
+        ));
+    }
 
+    private PagedSearchIterable<GHIssue> search(RunContext runContext, GitHub gitHub, String qualifier) throws Exception {
         GHIssueSearchBuilder searchBuilder = gitHub.searchIssues();
 
         var rQuery = runContext.render(this.query).as(String.class).orElse("");
@@ -153,6 +213,11 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             rQuery = (rQuery + " repo:" + rRepo).trim();
         }
 
+        // the date range of a shard, see shardBy
+        if (qualifier != null) {
+            rQuery = (rQuery + " " + qualifier).trim();
+        }
+
         if (!rQuery.isBlank()) {
             searchBuilder.q(rQuery);
         }
@@ -162,14 +227,6 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         runContext.render(this.closed).as(Boolean.class).filter(r -> r).ifPresent(ignored -> searchBuilder.isClosed());
         runContext.render(this.merged).as(Boolean.class).filter(r -> r).ifPresent(ignored -> searchBuilder.isMerged());
 
-
-        PagedSearchIterable<GHIssue> issues = searchBuilder.list();
-
-        return handleFetch(
-            runContext,
-            issues.toList(),
-            throwFunction(issue -> new IssueDetails(issue, gitHub.isAnonymous()).toMap()),
-            runContext.render(fetchType).as(FetchType.class).orElseThrow()
-        );
+        return searchBuilder.list();
     }
 }
@@ -0,0 +1,50 @@
+package io.kestra.plugin.github.model;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Output columns selected by a search task.
+ * <p>
+ * The details classes only compute the selected columns, so the lazy-loading getters of the GitHub client, which send
+ * one request per hit, are never called for a column nobody reads.
+ */
+public final class Fields {
+    public static final Fields ALL = new Fields(null);
+
+    private final Set<String> selected;
+
+    private Fields(Set<String> selected) {
+        this.selected = selected;
+    }
+
+    public static Fields of(Collection<String> columns) {
+        return columns == null || columns.isEmpty() ? ALL : new Fields(Set.copyOf(columns));
+    }
+
+    public boolean contains(String column) {
+        return selected == null || selected.contains(column);
+    }
+
+    public boolean containsAny(String... columns) {
+        for (var column : columns) {
+            if (contains(column)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the columns that were not selected, keeping the order of the others.
+     */
+    public Map<String, Object> project(Map<String, Object> map) {
+        if (selected != null) {
+            map.keySet().retainAll(selected);
+        }
+
+        return map;
+    }
+}
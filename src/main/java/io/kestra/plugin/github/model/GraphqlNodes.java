@@ -0,0 +1,43 @@
+package io.kestra.plugin.github.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * GraphQL selections and readers shared by the details classes that can be filled from a {@code nodes(ids:)} query.
+ */
+final class GraphqlNodes {
+    static final String REPOSITORY = "repository { name url }";
+    static final String CLOSED_BY = "closedBy: timelineItems(itemTypes: [CLOSED_EVENT], last: 1) { nodes { ... on ClosedEvent { actor { login } } } }";
+
+    private GraphqlNodes() {
+    }
+
+    static String text(JsonNode node, String... path) {
+        var current = node;
+        for (var name : path) {
+            current = current.path(name);
+        }
+
+        return current.isValueNode() && !current.isNull() ? current.asText() : null;
+    }
+
+    static Date date(JsonNode node, String... path) {
+        var value = text(node, path);
+        return value == null ? null : Date.from(Instant.parse(value));
+    }
+
+    static URL url(JsonNode node, String... path) throws MalformedURLException {
+        var value = text(node, path);
+        return value == null ? null : URI.create(value).toURL();
+    }
+
+    static String closedBy(JsonNode node) {
+        return text(node.path("closedBy").path("nodes").path(0), "actor", "login");
+    }
+}
@@ -2,6 +2,7 @@ package io.kestra.plugin.github.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import org.kohsuke.github.GHIssue;
 import org.kohsuke.github.GHIssueStateReason;
@@ -18,6 +19,12 @@ import java.util.Optional;
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class IssueDetails {
+    /**
+     * Selection resolving, for a whole page, the fields that are not part of the search results. Issue searches can
+     * also return pull requests.
+     */
+    public static final String GRAPHQL_SELECTION = "... on Issue { " + GraphqlNodes.REPOSITORY + " " + GraphqlNodes.CLOSED_BY + " } "
+        + "... on PullRequest { " + GraphqlNodes.REPOSITORY + " " + GraphqlNodes.CLOSED_BY + " }";
 
     private final int number;
 
@@ -41,7 +48,7 @@ public class IssueDetails {
     private final Date closedAt;
 
     @JsonProperty("closed_by")
-    private final String closedBy;
+    private String closedBy;
 
     private final int comments;
 
@@ -56,6 +63,17 @@ public class IssueDetails {
     private final URL url;
 
     public IssueDetails(GHIssue issue, boolean isAnonymous) throws IOException {
+        this(issue, isAnonymous, Fields.ALL);
+    }
+
+    public IssueDetails(GHIssue issue, boolean isAnonymous, Fields fields) throws IOException {
+        this(issue, isAnonymous, fields, null);
+    }
+
+    /**
+     * @param node the issue resolved with {@link #GRAPHQL_SELECTION}, {@code null} to load the missing fields lazily
+     */
+    public IssueDetails(GHIssue issue, boolean isAnonymous, Fields fields, JsonNode node) throws IOException {
         this.number = issue.getNumber();
         this.title = issue.getTitle();
         this.state = issue.getState().toString();
@@ -65,12 +83,23 @@ public class IssueDetails {
         this.assignees = issue.getAssignees().stream().map(GHPerson::getLogin).toArray();
         this.createdAt = issue.getCreatedAt();
         this.closedAt = issue.getClosedAt();
-        this.closedBy = Optional.ofNullable(issue.getClosedBy()).map(GHPerson::getLogin).orElse(null);
         this.comments = issue.getCommentsCount();
         this.labels = issue.getLabels().stream().map(GHLabel::getName).toArray();
         this.url = issue.getHtmlUrl();
 
-        if (!isAnonymous) {
+        if (node != null) {
+            this.closedBy = GraphqlNodes.closedBy(node);
+            this.repositoryName = GraphqlNodes.text(node, "repository", "name");
+            this.repositoryUrl = GraphqlNodes.url(node, "repository", "url");
+            return;
+        }
+
+        // not part of the search results, loads the full issue
+        if (fields.contains("closed_by")) {
+            this.closedBy = Optional.ofNullable(issue.getClosedBy()).map(GHPerson::getLogin).orElse(null);
+        }
+
+        if (!isAnonymous && fields.containsAny("repository_name", "repository_url")) {
             this.repositoryName = issue.getRepository().getName();
             this.repositoryUrl = issue.getRepository().getHtmlUrl();
         }
@@ -2,6 +2,7 @@ package io.kestra.plugin.github.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import org.kohsuke.github.GHCommitPointer;
 import org.kohsuke.github.GHLabel;
@@ -15,6 +16,13 @@ import java.util.*;
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class PullRequestDetails {
+    /**
+     * Selection resolving, for a whole page, the fields that are not part of the search results.
+     */
+    public static final String GRAPHQL_SELECTION = "... on PullRequest { baseRefName headRefName "
+        + GraphqlNodes.REPOSITORY + " "
+        + "reviewRequests(first: 100) { nodes { requestedReviewer { ... on User { login } } } } "
+        + GraphqlNodes.CLOSED_BY + " }";
 
     private final int number;
 
@@ -38,7 +46,7 @@ public class PullRequestDetails {
     private final Date closedAt;
 
     @JsonProperty("closed_by")
-    private final String closedBy;
+    private String closedBy;
 
     private final int comments;
 
@@ -50,16 +58,27 @@ public class PullRequestDetails {
     @JsonProperty("repository_url")
     private URL repositoryUrl;
 
-    private final String base;
+    private String base;
 
-    private final String head;
+    private String head;
 
     @JsonProperty("requested_reviewers")
-    private final List<String> requestedReviewers;
+    private List<String> requestedReviewers;
 
     private final URL url;
 
     public PullRequestDetails(GHPullRequest pullRequest, boolean isAnonymous) throws IOException {
+        this(pullRequest, isAnonymous, Fields.ALL);
+    }
+
+    public PullRequestDetails(GHPullRequest pullRequest, boolean isAnonymous, Fields fields) throws IOException {
+        this(pullRequest, isAnonymous, fields, null);
+    }
+
+    /**
+     * @param node the pull request resolved with {@link #GRAPHQL_SELECTION}, {@code null} to load the missing fields lazily
+     */
+    public PullRequestDetails(GHPullRequest pullRequest, boolean isAnonymous, Fields fields, JsonNode node) throws IOException {
         this.number = pullRequest.getNumber();
         this.title = pullRequest.getTitle();
         this.state = pullRequest.getState().toString();
@@ -69,15 +88,38 @@ public class PullRequestDetails {
         this.assignees = pullRequest.getAssignees().stream().map(GHPerson::getLogin).toArray();
         this.createdAt = pullRequest.getCreatedAt();
         this.closedAt = pullRequest.getClosedAt();
-        this.closedBy = Optional.ofNullable(pullRequest.getClosedBy()).map(GHPerson::getLogin).orElse(null);
         this.comments = pullRequest.getCommentsCount();
         this.labels = pullRequest.getLabels().stream().map(GHLabel::getName).toArray();
-        this.base = Optional.ofNullable(pullRequest.getBase()).map(GHCommitPointer::getRef).orElse(null);
-        this.head = Optional.ofNullable(pullRequest.getHead()).map(GHCommitPointer::getRef).orElse(null);
-        this.requestedReviewers = pullRequest.getRequestedReviewers().stream().map(GHPerson::getLogin).toList();
         this.url = pullRequest.getHtmlUrl();
 
-        if (!isAnonymous) {
+        if (node != null) {
+            this.closedBy = GraphqlNodes.closedBy(node);
+            this.base = GraphqlNodes.text(node, "baseRefName");
+            this.head = GraphqlNodes.text(node, "headRefName");
+            this.requestedReviewers = new ArrayList<>();
+            for (var reviewRequest : node.path("reviewRequests").path("nodes")) {
+                Optional.ofNullable(GraphqlNodes.text(reviewRequest, "requestedReviewer", "login")).ifPresent(this.requestedReviewers::add);
+            }
+            this.repositoryName = GraphqlNodes.text(node, "repository", "name");
+            this.repositoryUrl = GraphqlNodes.url(node, "repository", "url");
+            return;
+        }
+
+        // not part of the search results, each of them loads the full pull request
+        if (fields.contains("closed_by")) {
+            this.closedBy = Optional.ofNullable(pullRequest.getClosedBy()).map(GHPerson::getLogin).orElse(null);
+        }
+        if (fields.contains("base")) {
+            this.base = Optional.ofNullable(pullRequest.getBase()).map(GHCommitPointer::getRef).orElse(null);
+        }
+        if (fields.contains("head")) {
+            this.head = Optional.ofNullable(pullRequest.getHead()).map(GHCommitPointer::getRef).orElse(null);
+        }
+        if (fields.contains("requested_reviewers")) {
+            this.requestedReviewers = pullRequest.getRequestedReviewers().stream().map(GHPerson::getLogin).toList();
+        }
+
+        if (!isAnonymous && fields.containsAny("repository_name", "repository_url")) {
             this.repositoryName = pullRequest.getRepository().getName();
             this.repositoryUrl = pullRequest.getRepository().getHtmlUrl();
         }
@@ -2,6 +2,7 @@ package io.kestra.plugin.github.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHRepository;
@@ -15,6 +16,7 @@ import java.util.Map;
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class RepositoryDetails {
+    public static final String GRAPHQL_SELECTION = "... on Repository { pullRequests(states: OPEN) { totalCount } }";
 
     private final String name;
 
@@ -60,6 +62,27 @@ public class RepositoryDetails {
     private final String visibility;
 
     public RepositoryDetails(GHRepository repository, boolean isAnonymous) throws IOException {
+        this(repository, isAnonymous, Fields.ALL);
+    }
+
+    /**
+     * Counts the open pull requests by listing them all, one request per page of 30: prefer resolving the count and
+     * passing it to {@link #RepositoryDetails(GHRepository, boolean, Fields, Integer)}.
+     */
+    public RepositoryDetails(GHRepository repository, boolean isAnonymous, Fields fields) throws IOException {
+        this(
+            repository,
+            isAnonymous,
+            fields,
+            !isAnonymous && fields.contains("pull_request_count") ? repository.getPullRequests(GHIssueState.OPEN).size() : null
+        );
+    }
+
+    /**
+     * @param pullRequestsCount the number of open pull requests, resolved by the caller since the repository does not
+     *                          hold it; {@code null} when it was not counted, leaving it to 0
+     */
+    public RepositoryDetails(GHRepository repository, boolean isAnonymous, Fields fields, Integer pullRequestsCount) throws IOException {
         this.name = repository.getName();
         this.fullName = repository.getFullName();
         this.htmlUrl = repository.getHtmlUrl();
@@ -77,10 +100,21 @@ public class RepositoryDetails {
         this.defaultBranch = repository.getDefaultBranch();
         this.visibility = repository.getVisibility().name();
 
-        if (!isAnonymous) {
+        // fetches the owner for every repository
+        if (!isAnonymous && fields.contains("owner")) {
             this.owner = repository.getOwner().getLogin();
-            this.pullRequestsCount = repository.getPullRequests(GHIssueState.OPEN).size();
         }
+        if (pullRequestsCount != null) {
+            this.pullRequestsCount = pullRequestsCount;
+        }
+    }
+
+    /**
+     * @param node the repository resolved with {@link #GRAPHQL_SELECTION}
+     */
+    public static Integer pullRequestsCount(JsonNode node) {
+        var totalCount = node.path("pullRequests").path("totalCount");
+        return totalCount.isNumber() ? totalCount.asInt() : null;
     }
 
     public Map<String, Object> toMap() {
@@ -39,7 +39,7 @@ public class TopicDetails {
 
     private final int score;
 
-    public TopicDetails(Search.GHTopicSearchBuilder.GHTopicResponse.GHTopic topic) {
+    public TopicDetails(Search.GHTopicSearchBuilder.GHTopic topic) {
         this.name = topic.getName();
         this.displayName = topic.getDisplayName();
         this.shortDescription = topic.getShortDescription();
@@ -2,6 +2,7 @@ package io.kestra.plugin.github.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import org.kohsuke.github.GHUser;
 
@@ -42,10 +43,37 @@ public class UserDetails {
     private String type;
 
     public UserDetails(GHUser user, boolean isAnonymous) throws IOException {
+        this(user, isAnonymous, Fields.ALL);
+    }
+
+    public UserDetails(GHUser user, boolean isAnonymous, Fields fields) throws IOException {
+        this(user, isAnonymous, fields, null);
+    }
+
+    /**
+     * @param profile the profile resolved with {@link io.kestra.plugin.github.client.GraphqlUserResolver#SELECTION}, {@code null} to load it lazily
+     */
+    public UserDetails(GHUser user, boolean isAnonymous, Fields fields, JsonNode profile) throws IOException {
         this.username = user.getLogin();
         this.url = user.getHtmlUrl();
 
-        if (!isAnonymous) {
+        if (profile != null) {
+            this.name = GraphqlNodes.text(profile, "name");
+            this.company = GraphqlNodes.text(profile, "company");
+            this.location = GraphqlNodes.text(profile, "location");
+            this.created = GraphqlNodes.date(profile, "createdAt");
+            this.updated = GraphqlNodes.date(profile, "updatedAt");
+            this.publicRepositories = profile.path("publicRepositories").path("totalCount").asInt();
+            // as with REST, only visible on the profile of the authenticated user
+            this.privateRepositories = profile.path("isViewer").asBoolean() ? profile.path("privateRepositories").path("totalCount").asInt() : null;
+            this.followers = profile.path("followers").path("totalCount").asInt();
+            this.following = profile.path("following").path("totalCount").asInt();
+            this.type = GraphqlNodes.text(profile, "__typename");
+            return;
+        }
+
+        // the profile is not part of the search results, reading any of it loads the full user
+        if (!isAnonymous && fields.containsAny("name", "company", "location", "created", "updated", "public_repositories", "private_repositories", "followers", "following", "type")) {
             this.name = user.getName();
             this.company = user.getCompany();
             this.location = user.getLocation();
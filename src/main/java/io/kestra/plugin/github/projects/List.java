@@ -233,6 +233,14 @@ public class List extends AbstractGithubSearchTask implements RunnableTask<Abstr
 
     @Override
     public Output run(RunContext runContext) throws Exception {
+        // items are paginated through GraphQL, outside of the prefetching and raw connectors
+        if (isRaw(runContext)) {
+            throw new IllegalArgumentException("`raw` is not supported by `projects.List`");
+        }
+        if (runContext.render(getPageConcurrency()).as(Integer.class).orElse(1) > 1) {
+            throw new IllegalArgumentException("`pageConcurrency` is not supported by `projects.List`, its pages are read one after the other");
+        }
+
         var token = resolveToken(runContext);
         var rOrg = runContext.render(this.organization).as(String.class).orElseThrow();
         var rNumber = runContext.render(this.projectNumber).as(Integer.class).orElseThrow();
@@ -246,6 +254,7 @@ public class List extends AbstractGithubSearchTask implements RunnableTask<Abstr
         var graphqlUrl = rEndpoint.stripTrailing().replaceFirst("/+$", "") + "/graphql";
         var allItems = new ArrayList<Map<String, Object>>();
 
+        var rateLimiter = rateLimiter(runContext);
         var httpConfig = HttpConfiguration.builder().allowFailed(Property.ofValue(true)).build();
         try (var client = new HttpClient(runContext, httpConfig)) {
             String cursor = null;
@@ -269,7 +278,7 @@ public class List extends AbstractGithubSearchTask implements RunnableTask<Abstr
                     .addHeader("Accept", "application/json")
                     .build();
 
-                var response = client.request(request, String.class);
+                var response = rateLimiter.send(client, request, String.class, runContext);
                 var statusCode = response.getStatus().getCode();
                 if (statusCode != 200) {
                     throw new RuntimeException(
@@ -388,11 +397,13 @@ public class List extends AbstractGithubSearchTask implements RunnableTask<Abstr
         }
 
         var limited = (rLimit > 0 && filtered.size() > rLimit) ? filtered.subList(0, rLimit) : filtered;
+        // projected once filtered, the filters may read columns that are not selected
+        var projection = resolveFields(runContext);
 
         return handleFetch(
             runContext,
             limited,
-            item -> item,
+            projection::project,
             runContext.render(fetchType).as(FetchType.class).orElseThrow()
         );
     }
@@ -7,6 +7,10 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.AbstractGithubShardedSearchTask;
+import io.kestra.plugin.github.Incremental;
+import io.kestra.plugin.github.client.GraphqlNodeResolver;
+import io.kestra.plugin.github.model.Fields;
 import io.kestra.plugin.github.model.PullRequestDetails;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -15,8 +19,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.github.*;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -62,7 +69,7 @@ import io.kestra.core.models.annotations.PluginProperty;
         )
     }
 )
-public class Search extends AbstractGithubSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
+public class Search extends AbstractGithubShardedSearchTask implements RunnableTask<AbstractGithubSearchTask.Output> {
 
     @RequiredArgsConstructor
     public enum Order {
@@ -178,6 +185,18 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "destination")
     private Property<String> repository;
 
+    @Schema(
+        title = "How to load the columns missing from the search results",
+        description = """
+            `base`, `head`, `requested_reviewers`, `repository_name`, `repository_url` and `closed_by` are not part of the search results. `REST` (default) loads them with extra requests for every hit, \
+            `GRAPHQL` resolves them for a whole page with a single `nodes(ids:)` GraphQL query. GraphQL requires authentication, \
+            anonymous runs fall back to `REST`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Enrichment> enrichment = Property.ofValue(Enrichment.REST);
+
     @Schema(
         title = "Base branch filter",
         description = "Adds the `base:` qualifier for the target branch name"
@@ -225,7 +244,25 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @Override
     public Output run(RunContext runContext) throws Exception {
         GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
+        GraphqlNodeResolver resolver = nodeResolver(runContext, runContext.render(this.enrichment).as(Enrichment.class).orElseThrow(), PullRequestDetails.GRAPHQL_SELECTION);
+
+        Incremental<GHPullRequest> incremental = incremental(
+            runContext,
+            "updated:>=",
+            throwFunction(pr -> Optional.ofNullable(pr.getUpdatedAt()).map(Date::toInstant).orElse(null))
+        );
 
+        return incremental.save(handleShardedFetch(
+            runContext,
+            incremental.search(throwFunction(qualifier -> search(runContext, gitHub, qualifier))),
+            resolver == null ? null : throwConsumer(resolver::resolve),
+            incremental.track(throwFunction(pr -> fields.project(new PullRequestDetails(pr, gitHub.isAnonymous(), fields, resolver == null ? null : resolver.remove(pr)).toMap()))),
+            runContext.render(fetchType).as(FetchType.class).orElseThrow()
+        ));
+    }
+
+    private PagedSearchIterable<GHPullRequest> search(RunContext runContext, GitHub gitHub, String qualifier) throws Exception {
         GHPullRequestSearchBuilderCustom searchBuilder = new GHPullRequestSearchBuilderCustom(gitHub);
 
         searchBuilder
@@ -251,14 +288,12 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         runContext.render(this.author).as(String.class).ifPresent(searchBuilder::author);
         runContext.render(this.reviewRequested).as(String.class).ifPresent(searchBuilder::reviewRequested);
 
-        PagedSearchIterable<GHPullRequest> pullRequests = searchBuilder.list();
+        // the date range of a shard, see shardBy
+        if (qualifier != null) {
+            searchBuilder.q(qualifier);
+        }
 
-        return handleFetch(
-            runContext,
-            pullRequests.toList(),
-            throwFunction(pr -> new PullRequestDetails(pr, gitHub.isAnonymous()).toMap()),
-            runContext.render(fetchType).as(FetchType.class).orElseThrow()
-        );
+        return searchBuilder.list();
     }
 
     public static class GHPullRequestSearchBuilderCustom {
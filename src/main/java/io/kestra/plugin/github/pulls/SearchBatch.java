@@ -0,0 +1,253 @@
+package io.kestra.plugin.github.pulls;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.client.GraphqlNodeResolver;
+import io.kestra.plugin.github.model.Fields;
+import io.kestra.plugin.github.model.PullRequestDetails;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.kohsuke.github.GHDirection;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestSearchBuilder;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedSearchIterable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Search pull requests with several queries",
+    description = """
+        Runs several GitHub pull request searches in one task, over a single client: the queries share the connection pool, the response cache \
+        and the search rate limiter, and at most `queryConcurrency` of them run at the same time. The results are merged into a single output \
+        with a `query` column, or written to one output per query. `shardBy` and `incremental` are not supported.\
+        """
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Search the open pull requests of several repositories into a single output.",
+            full = true,
+            code = """
+                   id: github_pulls_search_batch_flow
+                   namespace: company.team
+
+                   tasks:
+                     - id: search_pull_requests
+                       type: io.kestra.plugin.github.pulls.SearchBatch
+                       oauthToken: "{{ secret('GITHUB_ACCESS_TOKEN') }}"
+                       queries:
+                         - "repo:kestra-io/kestra is:open"
+                         - "repo:kestra-io/plugin-github is:open"
+                         - "repo:kestra-io/plugin-scripts is:open"
+                   """
+        ),
+        @Example(
+            title = "Search the merged pull requests of several authors, one output per author.",
+            full = true,
+            code = """
+                   id: github_pulls_search_batch_flow
+                   namespace: company.team
+
+                   tasks:
+                     - id: search_pull_requests
+                       type: io.kestra.plugin.github.pulls.SearchBatch
+                       oauthToken: "{{ secret('GITHUB_ACCESS_TOKEN') }}"
+                       outputMode: PER_QUERY
+                       queries:
+                         - "org:kestra-io is:merged author:alice"
+                         - "org:kestra-io is:merged author:bob"
+                   """
+        )
+    }
+)
+public class SearchBatch extends AbstractGithubSearchTask implements RunnableTask<SearchBatch.Output> {
+    @Schema(
+        title = "Search queries",
+        description = "GitHub pull request search syntax combining keywords with qualifiers like `repo`, `is`, and `label`; `is:pr` is added to each query. Duplicate queries are run once."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<String>> queries;
+
+    @Schema(
+        title = "How to write the results of the queries",
+        description = """
+            `MERGED` (default) writes the hits of every query to a single output, query after query, with a `query` column holding the query \
+            that returned the hit; a pull request matching several queries is written once for each of them and `maxResults` bounds the whole \
+            output. `PER_QUERY` writes one output for each query, each bounded by `maxResults`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<OutputMode> outputMode = Property.ofValue(OutputMode.MERGED);
+
+    @Schema(
+        title = "Queries run in parallel",
+        description = "Maximum number of queries fetched at the same time. Their requests still go through the rate limiter shared by the tasks using the same credentials."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> queryConcurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "How to load the columns missing from the search results",
+        description = """
+            `base`, `head`, `requested_reviewers`, `repository_name`, `repository_url` and `closed_by` are not part of the search results. `REST` (default) loads them with extra requests for every hit, \
+            `GRAPHQL` resolves them for a whole page with a single `nodes(ids:)` GraphQL query. GraphQL requires authentication, \
+            anonymous runs fall back to `REST`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Enrichment> enrichment = Property.ofValue(Enrichment.REST);
+
+    @Schema(
+        title = "Sort direction",
+        description = "ASC sorts oldest first (default); DESC sorts newest first."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Search.Order> order = Property.ofValue(Search.Order.ASC);
+
+    @Schema(
+        title = "Sort field",
+        description = "CREATED sorts by creation time (default); UPDATED by last update; COMMENTS by comment count."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Search.Sort> sort = Property.ofValue(Search.Sort.CREATED);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
+        GraphqlNodeResolver resolver = nodeResolver(runContext, runContext.render(this.enrichment).as(Enrichment.class).orElseThrow(), PullRequestDetails.GRAPHQL_SELECTION);
+
+        var rQueries = runContext.render(this.queries).asList(String.class).stream().distinct().toList();
+        var rOutputMode = runContext.render(this.outputMode).as(OutputMode.class).orElse(OutputMode.MERGED);
+        var rQueryConcurrency = Math.max(runContext.render(this.queryConcurrency).as(Integer.class).orElse(4), 1);
+        var rFetchType = runContext.render(fetchType).as(FetchType.class).orElseThrow();
+        var rSort = GHPullRequestSearchBuilder.Sort.valueOf(runContext.render(this.sort).as(Search.Sort.class).orElseThrow().name());
+        var rOrder = GHDirection.valueOf(runContext.render(this.order).as(Search.Order.class).orElseThrow().name());
+
+        // the rows of a query, led by the query itself
+        Function<String, Function<GHPullRequest, Map<String, Object>>> mapper = query -> throwFunction(pr -> {
+            var row = new LinkedHashMap<String, Object>();
+            row.put("query", query);
+            row.putAll(fields.project(new PullRequestDetails(pr, gitHub.isAnonymous(), fields, resolver == null ? null : resolver.remove(pr)).toMap()));
+            return row;
+        });
+
+        runContext.logger().info("Running {} pull request searches, {} at a time", rQueries.size(), rQueryConcurrency);
+
+        if (rOutputMode == OutputMode.MERGED) {
+            var merged = handleBatchFetch(
+                runContext,
+                rQueries,
+                query -> search(gitHub, query, rSort, rOrder),
+                resolver == null ? null : throwConsumer(resolver::resolve),
+                (query, pr) -> mapper.apply(query).apply(pr),
+                rQueryConcurrency,
+                rFetchType
+            );
+
+            return Output.builder()
+                .size(merged.getSize())
+                .merged(merged)
+                .build();
+        }
+
+        var outputs = new LinkedHashMap<String, AbstractGithubSearchTask.Output>();
+        try (var executor = Executors.newFixedThreadPool(rQueryConcurrency, Thread.ofVirtual().factory())) {
+            var futures = new ArrayList<Future<AbstractGithubSearchTask.Output>>();
+            for (var query : rQueries) {
+                futures.add(executor.submit(() -> handleFetch(
+                    runContext,
+                    search(gitHub, query, rSort, rOrder),
+                    resolver == null ? null : throwConsumer(resolver::resolve),
+                    mapper.apply(query),
+                    rFetchType
+                )));
+            }
+
+            for (int i = 0; i < rQueries.size(); i++) {
+                outputs.put(rQueries.get(i), join(futures.get(i)));
+            }
+        }
+
+        return Output.builder()
+            .size(outputs.values().stream().mapToInt(output -> output.getSize() == null ? 0 : output.getSize()).sum())
+            .queries(outputs)
+            .build();
+    }
+
+    private static PagedSearchIterable<GHPullRequest> search(GitHub gitHub, String query, GHPullRequestSearchBuilder.Sort sort, GHDirection order) {
+        return new Search.GHPullRequestSearchBuilderCustom(gitHub)
+            .sort(sort)
+            .order(order)
+            .q(query)
+            .list();
+    }
+
+    private static AbstractGithubSearchTask.Output join(Future<AbstractGithubSearchTask.Output> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    public enum OutputMode {
+        MERGED,
+        PER_QUERY
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Returned hit count",
+            description = "Number of hits included in the outputs, over every query."
+        )
+        private final Integer size;
+
+        @Schema(
+            title = "Merged results",
+            description = "The hits of every query, each row with the `query` that returned it; set with `outputMode: MERGED`."
+        )
+        private final AbstractGithubSearchTask.Output merged;
+
+        @Schema(
+            title = "Results by query",
+            description = "The output of each query, keyed by query in the order of `queries`; set with `outputMode: PER_QUERY`."
+        )
+        private final Map<String, AbstractGithubSearchTask.Output> queries;
+    }
+}
@@ -2,17 +2,22 @@ package io.kestra.plugin.github.repositories;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.client.GraphqlNodeResolver;
+import io.kestra.plugin.github.client.PrefetchingGitHubConnector;
+import io.kestra.plugin.github.model.Fields;
 import io.kestra.plugin.github.model.RepositoryDetails;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.kohsuke.github.*;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -191,9 +196,22 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "advanced")
     private Property<Visibility> visibility;
 
+    @Schema(
+        title = "Count the open pull requests of each repository",
+        description = """
+            Fills `pull_request_count` for authenticated runs. The counts are resolved for a whole page with a single \
+            GraphQL query, or with one search request per repository when GraphQL does not return it: these count against the \
+            search quota, and are logged as warnings and reported as the `repositories.count.fallback` metric. Set to `false` to skip it entirely.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> countPullRequests = Property.ofValue(true);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
 
         GHRepositorySearchBuilder searchBuilder = gitHub.searchRepositories();
 
@@ -212,11 +230,41 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
 
         PagedSearchIterable<GHRepository> repositories = searchBuilder.list();
 
+        boolean count = !gitHub.isAnonymous()
+            && fields.contains("pull_request_count")
+            && runContext.render(this.countPullRequests).as(Boolean.class).orElse(true);
+        GraphqlNodeResolver resolver = count ? nodeResolver(runContext, Enrichment.GRAPHQL, RepositoryDetails.GRAPHQL_SELECTION) : null;
+
         return handleFetch(
             runContext,
-            repositories.toList(),
-            throwFunction(repository -> new RepositoryDetails(repository, gitHub.isAnonymous()).toMap()),
+            repositories,
+            resolver == null ? null : throwConsumer(resolver::resolve),
+            throwFunction(repository -> {
+                Integer pullRequestsCount = null;
+                if (count) {
+                    var node = resolver == null ? null : resolver.remove(repository);
+                    pullRequestsCount = node == null ? countOpenPullRequests(runContext, gitHub, repository) : RepositoryDetails.pullRequestsCount(node);
+                }
+
+                return fields.project(new RepositoryDetails(repository, gitHub.isAnonymous(), fields, pullRequestsCount).toMap());
+            }),
             runContext.render(fetchType).as(FetchType.class).orElseThrow()
         );
     }
+
+    /**
+     * Reads the total count of a one-hit search instead of listing every open pull request.
+     */
+    private static int countOpenPullRequests(RunContext runContext, GitHub gitHub, GHRepository repository) {
+        runContext.logger().warn("Open pull requests of {} not resolved with GraphQL, counting them with a search request", repository.getFullName());
+        synchronized (runContext) {
+            runContext.metric(Counter.of("repositories.count.fallback", 1));
+        }
+
+        return PrefetchingGitHubConnector.withoutPrefetch(() -> gitHub.searchIssues()
+            .q("repo:" + repository.getFullName() + " is:pr is:open")
+            .list()
+            .withPageSize(1)
+            .getTotalCount());
+    }
 }
@@ -2,6 +2,9 @@ package io.kestra.plugin.github.topics;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.http.client.configurations.HttpConfiguration;
@@ -13,6 +16,7 @@ import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.client.GithubRateLimiter;
 import io.kestra.plugin.github.model.TopicDetails;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -20,12 +24,19 @@ import lombok.experimental.SuperBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.github.GitHub;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -141,37 +152,35 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
 
     @Override
     public AbstractGithubSearchTask.Output run(RunContext runContext) throws Exception {
+        // topics are paginated by GHTopicSearchBuilder, outside of the prefetching and raw connectors
+        if (isRaw(runContext)) {
+            throw new IllegalArgumentException("`raw` is not supported by the topic search");
+        }
+        if (runContext.render(getPageConcurrency()).as(Integer.class).orElse(1) > 1) {
+            throw new IllegalArgumentException("`pageConcurrency` is not supported by the topic search, its pages are read one after the other");
+        }
+
         var gitHub = connect(runContext);
-        var searchBuilder = new GHTopicSearchBuilder(gitHub, runContext, resolveAuthorizationHeader(runContext));
+        var fields = resolveFields(runContext);
+        var searchBuilder = new GHTopicSearchBuilder(gitHub, runContext, resolveAuthorizationHeader(runContext), rateLimiter(runContext));
 
         runContext.render(this.query).as(String.class).ifPresent(searchBuilder::query);
         runContext.render(this.is).as(Is.class).map(Is::toString).ifPresent(searchBuilder::is);
         runContext.render(this.repositories).as(String.class).ifPresent(searchBuilder::repositories);
         runContext.render(this.created).as(String.class).ifPresent(searchBuilder::created);
-
-        var topics = searchBuilder.list();
-        return handleFetch(
-            runContext,
-            topics.items,
-            topic -> new TopicDetails(topic).toMap(),
-            runContext.render(fetchType).as(FetchType.class).orElseThrow()
-        );
-    }
-
-    private String resolveAuthorizationHeader(RunContext runContext) throws Exception {
-        var rAppInstallationToken = runContext.render(this.appInstallationTokenProperty()).as(String.class);
-        if (rAppInstallationToken.isPresent()) {
-            return "token " + rAppInstallationToken.orElseThrow();
-        }
-
-        var rJwtToken = runContext.render(this.jwtTokenProperty()).as(String.class);
-        if (rJwtToken.isPresent()) {
-            return "Bearer " + rJwtToken.orElseThrow();
+        searchBuilder.perPage(resolvePageSize(runContext).orElse(MAX_PAGE_SIZE));
+
+        try (var topics = searchBuilder.list()) {
+            return handleFetch(
+                runContext,
+                topics,
+                topic -> fields.project(new TopicDetails(topic).toMap()),
+                runContext.render(fetchType).as(FetchType.class).orElseThrow()
+            ).toBuilder()
+                .pages(topics.getPages())
+                .total(topics.getTotalCount())
+                .build();
         }
-
-        return runContext.render(this.oauthTokenProperty()).as(String.class)
-            .map(token -> "token " + token)
-            .orElse(null);
     }
 
     @Getter
@@ -190,17 +199,21 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     public static class GHTopicSearchBuilder {
         private static final String ACCEPT_HEADER = "application/vnd.github+json";
         private static final String API_VERSION_HEADER = "2022-11-28";
+        private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+        private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>;\\s*rel=\"next\"");
 
         private final GitHub root;
         private final RunContext runContext;
         private final String authorizationHeader;
+        private final GithubRateLimiter rateLimiter;
         private final List<String> terms = new ArrayList<>();
         private final List<String> parameters = new ArrayList<>();
 
-        public GHTopicSearchBuilder(GitHub gitHub, RunContext runContext, String authorizationHeader) {
+        public GHTopicSearchBuilder(GitHub gitHub, RunContext runContext, String authorizationHeader, GithubRateLimiter rateLimiter) {
             this.root = gitHub;
             this.runContext = runContext;
             this.authorizationHeader = authorizationHeader;
+            this.rateLimiter = rateLimiter;
         }
 
         public GHTopicSearchBuilder query(String query) {
@@ -220,6 +233,11 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             return query("created:" + value);
         }
 
+        public GHTopicSearchBuilder perPage(int perPage) {
+            parameters.add("per_page=" + perPage);
+            return this;
+        }
+
         private String getApiUrl() {
             return root.getApiUrl() + "/search/topics";
         }
@@ -240,70 +258,170 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
             return java.net.URLEncoder.encode(value, StandardCharsets.UTF_8);
         }
 
-        public GHTopicResponse list() throws Exception {
-            var urlWithQuery = getUrlWithQuery();
-            var requestBuilder = HttpRequest.builder()
-                .uri(URI.create(urlWithQuery))
-                .method("GET")
-                .addHeader("Accept", ACCEPT_HEADER)
-                .addHeader("X-GitHub-Api-Version", API_VERSION_HEADER);
+        /**
+         * @return the pages of the search, requested one by one as they are iterated
+         */
+        public TopicPages list() {
+            return new TopicPages(URI.create(getUrlWithQuery()));
+        }
 
-            if (this.authorizationHeader != null) {
-                requestBuilder.addHeader("Authorization", this.authorizationHeader);
+        /**
+         * Topics of a search, page after page: each page is requested once the previous one was iterated, following the
+         * {@code Link} header, and its {@code items} are parsed from the response stream. Only one page is held in memory.
+         */
+        public class TopicPages implements Iterable<GHTopic>, AutoCloseable {
+            private final URI first;
+            private HttpClient client;
+            private int pages;
+            private Long totalCount;
+
+            private TopicPages(URI first) {
+                this.first = first;
             }
 
-            try (var client = new HttpClient(runContext, HttpConfiguration.builder().build())) {
-                var response = client.request(requestBuilder.build(), String.class);
-                if (response.getStatus().getCode() != 200) {
-                    throw new IllegalStateException("GitHub topic search failed with status code: " + response.getStatus().getCode());
-                }
+            public int getPages() {
+                return pages;
+            }
 
-                return JacksonMapper.ofJson().readValue(response.getBody(), GHTopicResponse.class);
+            /**
+             * @return the total topics reported by GitHub, {@code null} when no page was fetched
+             */
+            public Long getTotalCount() {
+                return totalCount;
             }
-        }
 
-        @Data
-        @JsonIgnoreProperties(ignoreUnknown = true)
-        public static class GHTopicResponse {
-            @JsonProperty("total_count")
-            private int totalCount;
+            @Override
+            public Iterator<GHTopic> iterator() {
+                return new Iterator<>() {
+                    private URI next = first;
+                    private Iterator<GHTopic> page = Collections.emptyIterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!page.hasNext()) {
+                            if (next == null) {
+                                return false;
+                            }
+
+                            try {
+                                page = fetch().iterator();
+                            } catch (RuntimeException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new IllegalStateException("GitHub topic search failed: " + e.getMessage(), e);
+                            }
+                        }
+
+                        return true;
+                    }
+
+                    @Override
+                    public GHTopic next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        return page.next();
+                    }
+
+                    private List<GHTopic> fetch() throws Exception {
+                        var requestBuilder = HttpRequest.builder()
+                            .uri(next)
+                            .method("GET")
+                            .addHeader("Accept", ACCEPT_HEADER)
+                            .addHeader("X-GitHub-Api-Version", API_VERSION_HEADER);
+
+                        if (authorizationHeader != null) {
+                            requestBuilder.addHeader("Authorization", authorizationHeader);
+                        }
+
+                        if (client == null) {
+                            client = new HttpClient(runContext, HttpConfiguration.builder().build());
+                        }
+
+                        var items = new ArrayList<GHTopic>();
+                        rateLimiter.send(client, requestBuilder.build(), throwConsumer(response -> {
+                            if (response.getStatus().getCode() != 200) {
+                                throw new IllegalStateException("GitHub topic search failed with status code: " + response.getStatus().getCode());
+                            }
+
+                            next = nextLink(response.getHeaders().firstValue("Link").orElse(null));
+                            parse(response.getBody(), items);
+                        }), runContext);
+
+                        pages++;
+                        return items;
+                    }
+                };
+            }
 
-            @JsonProperty("incomplete_results")
-            private boolean incompleteResults;
+            @Override
+            public void close() throws IOException {
+                if (client != null) {
+                    client.close();
+                }
+            }
 
-            @JsonProperty("items")
-            private List<GHTopic> items;
+            private void parse(InputStream body, List<GHTopic> items) throws IOException {
+                try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        throw new IOException("Unexpected topic search response");
+                    }
+
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        var field = parser.currentName();
+                        var token = parser.nextToken();
+
+                        if ("total_count".equals(field)) {
+                            totalCount = parser.getLongValue();
+                        } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                items.add(MAPPER.readValue(parser, GHTopic.class));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        }
 
-            @JsonProperty("url")
-            private URL htmlUrl;
+        private static URI nextLink(String link) {
+            if (link == null) {
+                return null;
+            }
 
-            @Data
-            public static class GHTopic {
-                private String name;
+            var matcher = NEXT_LINK.matcher(link);
+            return matcher.find() ? URI.create(matcher.group(1)) : null;
+        }
 
-                @JsonProperty("display_name")
-                private String displayName;
+        @Data
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        public static class GHTopic {
+            private String name;
 
-                @JsonProperty("short_description")
-                private String shortDescription;
+            @JsonProperty("display_name")
+            private String displayName;
 
-                private String description;
+            @JsonProperty("short_description")
+            private String shortDescription;
 
-                @JsonProperty("created_by")
-                private String createdBy;
+            private String description;
 
-                private String released;
+            @JsonProperty("created_by")
+            private String createdBy;
 
-                @JsonProperty("created_at")
-                private String createdAt;
+            private String released;
 
-                @JsonProperty("updated_at")
-                private String updatedAt;
+            @JsonProperty("created_at")
+            private String createdAt;
 
-                private boolean featured;
-                private boolean curated;
-                private int score;
-            }
+            @JsonProperty("updated_at")
+            private String updatedAt;
+
+            private boolean featured;
+            private boolean curated;
+            private int score;
         }
     }
 }
@@ -7,12 +7,18 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.client.GraphqlUserResolver;
+import io.kestra.plugin.github.client.UserProfileCache;
+import io.kestra.plugin.github.model.Fields;
 import io.kestra.plugin.github.model.UserDetails;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.kohsuke.github.*;
 
+import java.time.Duration;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -158,9 +164,31 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
     @PluginProperty(group = "processing")
     private Property<Sort> sort = Property.ofValue(Sort.JOINED);
 
+    @Schema(
+        title = "How to load the profile columns missing from the search results",
+        description = """
+            `name`, `company`, `location`, `created`, `updated`, `followers`, `following`, `public_repositories`, `private_repositories` and `type` \
+            are not part of the search results. `REST` (default) loads them with a `/users/{login}` request for every hit, `GRAPHQL` resolves the \
+            profiles of a whole page with a single aliased GraphQL query and keeps them in a cache shared by the user searches of the worker, see \
+            `profileMaxAge`. GraphQL requires authentication, anonymous runs fall back to `REST`.\
+            """
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Enrichment> enrichment = Property.ofValue(Enrichment.REST);
+
+    @Schema(
+        title = "Maximum age of a cached profile",
+        description = "Profiles resolved with `GRAPHQL` enrichment by any user search of the worker, with the same credentials, are reused while younger than this."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> profileMaxAge = Property.ofValue(UserProfileCache.DEFAULT_MAX_AGE);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         GitHub gitHub = connect(runContext);
+        Fields fields = resolveFields(runContext);
 
         GHUserSearchBuilder searchBuilder = gitHub.searchUsers();
 
@@ -178,12 +206,28 @@ public class Search extends AbstractGithubSearchTask implements RunnableTask<Abs
         runContext.render(this.accountType).as(Type.class).map(t -> t.value).ifPresent(searchBuilder::type);
 
         PagedSearchIterable<GHUser> users = searchBuilder.list();
+        GraphqlUserResolver resolver = userResolver(runContext, fields);
 
         return handleFetch(
             runContext,
-            users.toList(),
-            throwFunction(user -> new UserDetails(user, gitHub.isAnonymous()).toMap()),
+            users,
+            resolver == null ? null : throwConsumer(page -> resolver.resolve(page.stream().map(GHUser::getLogin).toList())),
+            throwFunction(user -> fields.project(new UserDetails(user, gitHub.isAnonymous(), fields, resolver == null ? null : resolver.remove(user.getLogin())).toMap())),
             runContext.render(fetchType).as(FetchType.class).orElseThrow()
         );
     }
+
+    private GraphqlUserResolver userResolver(RunContext runContext, Fields fields) throws Exception {
+        if (runContext.render(this.enrichment).as(Enrichment.class).orElseThrow() != Enrichment.GRAPHQL
+            || !fields.containsAny("name", "company", "location", "created", "updated", "public_repositories", "private_repositories", "followers", "following", "type")) {
+            return null;
+        }
+
+        var resolver = userResolver(runContext, runContext.render(this.profileMaxAge).as(Duration.class).orElse(UserProfileCache.DEFAULT_MAX_AGE));
+        if (resolver == null) {
+            runContext.logger().warn("GraphQL enrichment requires authentication, falling back to REST");
+        }
+
+        return resolver;
+    }
 }
@@ -36,5 +36,6 @@ public abstract class AbstractGithubClientTest {
         MockController.data = null;
         MockController.headers.clear();
         MockController.queryParameters.clear();
+        MockController.notModifiedCount = 0;
     }
 }
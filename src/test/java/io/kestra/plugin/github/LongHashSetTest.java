@@ -0,0 +1,42 @@
+package io.kestra.plugin.github;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LongHashSetTest {
+    @Test
+    void addOnce() {
+        var set = new LongHashSet(16);
+
+        assertThat(set.add(42L), is(true));
+        assertThat(set.add(42L), is(false));
+        assertThat(set.add(0L), is(true));
+        assertThat(set.add(0L), is(false));
+        assertThat(set.add(-1L), is(true));
+
+        assertThat(set.contains(42L), is(true));
+        assertThat(set.contains(0L), is(true));
+        assertThat(set.contains(43L), is(false));
+        assertThat(set.size(), is(3));
+    }
+
+    @Test
+    void growLikeHashSet() {
+        var set = new LongHashSet(16);
+        var expected = new HashSet<Long>();
+
+        for (int i = 0; i < 100_000; i++) {
+            // sequential ids, as GitHub ones, mixed with random collisions
+            long value = i % 3 == 0 ? ThreadLocalRandom.current().nextLong(1, 1000) : 1_000_000L + i;
+            assertThat(set.add(value), is(expected.add(value)));
+        }
+
+        assertThat(set.size(), is(expected.size()));
+        expected.forEach(value -> assertThat(set.contains(value), is(true)));
+    }
+}
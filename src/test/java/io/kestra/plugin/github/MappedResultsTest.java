@@ -0,0 +1,61 @@
+package io.kestra.plugin.github;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedResultsTest {
+    @Test
+    void keepOrderAndBoundInFlight() {
+        var hits = IntStream.range(0, 50).boxed().toList();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var mapped = new MappedResults<Integer, Integer>(hits, hit -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return hit * 2;
+            }, 4, executor);
+
+            var results = new ArrayList<Integer>();
+            mapped.forEach(results::add);
+
+            assertThat(results, is(hits.stream().map(hit -> hit * 2).toList()));
+            assertThat(maxInFlight.get(), lessThanOrEqualTo(4));
+        }
+    }
+
+    @Test
+    void propagateFirstFailure() {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var mapped = new MappedResults<Integer, Integer>(List.of(1, 2, 3, 4), hit -> {
+                if (hit >= 2) {
+                    throw new IllegalArgumentException("hit " + hit);
+                }
+                return hit;
+            }, 4, executor);
+
+            var iterator = mapped.iterator();
+            assertThat(iterator.next(), is(1));
+
+            var exception = assertThrows(IllegalArgumentException.class, iterator::next);
+            assertThat(exception.getMessage(), is("hit 2"));
+            assertThat(iterator.hasNext(), is(false));
+        }
+    }
+}
@@ -7,8 +7,16 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Controller()
 @Consumes("application/json")
@@ -19,8 +27,26 @@ public class MockController {
     public static String data;
     public static Map<String, String> headers = new HashMap<>();
     public static Map<String, String> queryParameters = new HashMap<>();
+    public static int notModifiedCount = 0;
+    public static int blobDownloads = 0;
+    // every request received, in order
+    public static final List<String> requests = new CopyOnWriteArrayList<>();
+
+    // the fragments GitHub adds to each hit with the text-match media type
+    private static String textMatches(HttpRequest<?> request, String objectType, String fragment, String match) {
+        if (!request.getHeaders().get("Accept", String.class).orElse("").contains("text-match")) {
+            return "";
+        }
+
+        var start = fragment.indexOf(match);
+        return """
+             "text_matches": [{"object_type": "%s", "property": "%s", "fragment": "%s", "matches": [{"text": "%s", "indices": [%d, %d]}]}],"""
+            .formatted(objectType, objectType.equals("Issue") ? "title" : "content", fragment, match, start, start + match.length());
+    }
 
     private void capture(HttpRequest<?> request) {
+        requests.add(request.getUri().toString());
+
         headers = new HashMap<>();
         request.getHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), String.join(",", values)));
 
@@ -54,12 +80,16 @@ public class MockController {
     public HttpResponse<String> workflows(HttpRequest<?> request) {
         capture(request);
         MockController.data = data;
+        if ("\"workflow-v1\"".equals(request.getHeaders().get("If-None-Match"))) {
+            notModifiedCount++;
+            return HttpResponse.<String>notModified().header("ETag", "\"workflow-v1\"");
+        }
         return HttpResponse.ok("""
             {
               "id": 105842276,
               "path": ".github/workflows/blank.yaml"
             }
-            """);
+            """).header("ETag", "\"workflow-v1\"");
     }
 
     @Post("/repos/kestra-io/mock-kestra/actions/workflows/105842276/dispatches")
@@ -171,34 +201,50 @@ public class MockController {
     }
 
     @Get("/search/code")
+    @Produces({"application/vnd.github+json", "application/vnd.github.text-match+json"})
     public HttpResponse<String> searchCode(HttpRequest<?> request) {
         capture(request);
         var base = baseUrl(request);
+        // the same blob at two paths
+        var paths = request.getParameters().getFirst("q").orElse("").contains("duplicated")
+            ? List.of("src/main/java/Search.java", "src/test/java/Search.java")
+            : List.of("src/main/java/Search.java");
+
+        var items = paths.stream().map(path -> """
+            {
+              "name": "Search.java",
+              "path": "%s",
+              "sha": "abc123def456",
+              "url": "%s/repos/kestra-io/plugin-github/contents/%s",
+              "git_url": "%s/repos/kestra-io/plugin-github/git/blobs/abc123def456",
+              "html_url": "https://github.com/kestra-io/plugin-github/blob/main/%s",%s
+              "repository": {
+                "id": 1,
+                "name": "plugin-github",
+                "full_name": "kestra-io/plugin-github",
+                "html_url": "https://github.com/kestra-io/plugin-github",
+                "owner": {
+                  "login": "kestra-io"
+                }
+              }
+            }
+            """.formatted(path, base, path, base, path, textMatches(request, "FileContent", "public class Search", "Search"))).collect(Collectors.joining(","));
+
         return HttpResponse.ok("""
             {
-              "total_count": 1,
+              "total_count": %d,
               "incomplete_results": false,
-              "items": [
-                {
-                  "name": "Search.java",
-                  "path": "src/main/java/Search.java",
-                  "sha": "abc123def456",
-                  "url": "%s/repos/kestra-io/plugin-github/contents/src/main/java/Search.java",
-                  "git_url": "%s/repos/kestra-io/plugin-github/git/blobs/abc123def456",
-                  "html_url": "https://github.com/kestra-io/plugin-github/blob/main/src/main/java/Search.java",
-                  "repository": {
-                    "id": 1,
-                    "name": "plugin-github",
-                    "full_name": "kestra-io/plugin-github",
-                    "html_url": "https://github.com/kestra-io/plugin-github",
-                    "owner": {
-                      "login": "kestra-io"
-                    }
-                  }
-                }
-              ]
+              "items": [%s]
             }
-            """.formatted(base, base));
+            """.formatted(paths.size(), items));
+    }
+
+    @Get("/repos/{owner}/{repo}/git/blobs/{sha}")
+    @Produces("application/vnd.github.raw+json")
+    public HttpResponse<String> getBlob(HttpRequest<?> request, @PathVariable String owner, @PathVariable String repo, @PathVariable String sha) {
+        capture(request);
+        blobDownloads++;
+        return HttpResponse.ok("public class Search {\n}\n");
     }
 
     @Get("/repos/kestra-io/plugin-github/contents/{+path}")
@@ -334,6 +380,20 @@ public class MockController {
     @Get("/search/topics")
     public HttpResponse<String> searchTopics(HttpRequest<?> request) {
         capture(request);
+        // two pages of one topic, linked like GitHub does
+        if (request.getParameters().getFirst("q").orElse("").contains("paginated")) {
+            var second = request.getParameters().getFirst("page").orElse("1").equals("2");
+            var response = HttpResponse.ok("""
+                {
+                  "total_count": 2,
+                  "incomplete_results": false,
+                  "items": [{"name": "%s", "display_name": "%s", "featured": false, "curated": true, "score": 1, "aliases": []}]
+                }
+                """.formatted(second ? "spring-boot" : "spring-cloud", second ? "Spring Boot" : "Spring Cloud")).contentType(MediaType.of("application/json"));
+
+            return second ? response : response.header("Link", "<%s/search/topics?q=paginated&per_page=1&page=2>; rel=\"next\", <%s/search/topics?q=paginated&per_page=1&page=2>; rel=\"last\""
+                .formatted(baseUrl(request), baseUrl(request)));
+        }
         return HttpResponse.ok("""
             {
               "total_count": 1,
@@ -358,10 +418,37 @@ public class MockController {
     }
 
     @Get("/search/issues")
+    @Produces({"application/vnd.github+json", "application/vnd.github.text-match+json"})
     public HttpResponse<String> searchIssues(HttpRequest<?> request) {
         capture(request);
         var base = baseUrl(request);
         var q = request.getParameters().getFirst("q").orElse("");
+        // three pages of one pull request each, linked like GitHub does
+        if (q.contains("streamed")) {
+            var page = Integer.parseInt(request.getParameters().getFirst("page").orElse("1"));
+            var response = HttpResponse.ok("""
+                {
+                  "total_count": 3,
+                  "incomplete_results": false,
+                  "items": [
+                    {
+                      "id": %d, "number": %d, "title": "Test PR", "state": "closed",
+                      "url": "%s/repos/kestra-io/plugin-github/pulls/%d",
+                      "html_url": "https://github.com/kestra-io/plugin-github/pull/%d",
+                      "pull_request": {"url": "%s/repos/kestra-io/plugin-github/pulls/%d"},
+                      "user": {"login": "kestra-io", "id": 1, "type": "User"},
+                      "assignee": null, "assignees": [], "labels": [], "comments": 0,
+                      "created_at": "2024-01-01T00:00:00Z",
+                      "closed_at": "2024-01-02T00:00:00Z",
+                      "updated_at": "2024-01-02T00:00:00Z"
+                    }
+                  ]
+                }
+                """.formatted(page, 9 + page, base, 9 + page, 9 + page, base, 9 + page));
+
+            var link = base + "/search/issues?q=" + URLEncoder.encode(q, StandardCharsets.UTF_8) + "&per_page=1&page=";
+            return page < 3 ? response.header("Link", "<%s%d>; rel=\"next\", <%s3>; rel=\"last\"".formatted(link, page + 1, link)) : response;
+        }
         if (q.contains("is:pr")) {
             return HttpResponse.ok("""
                 {
@@ -369,7 +456,7 @@ public class MockController {
                   "incomplete_results": false,
                   "items": [
                     {
-                      "id": 1, "number": 10, "title": "Test PR", "state": "closed",
+                      "id": 1, "number": 10, "title": "Test PR", "state": "closed", "node_id": "PR_kwDOAAAAAc4AAAAK",
                       "url": "%s/repos/kestra-io/plugin-github/pulls/10",
                       "html_url": "https://github.com/kestra-io/plugin-github/pull/10",
                       "pull_request": {"url": "%s/repos/kestra-io/plugin-github/pulls/10"},
@@ -388,15 +475,16 @@ public class MockController {
                 }
                 """.formatted(base, base));
         } else {
-            return HttpResponse.ok("""
+            var total = issueTotalCount(q);
+            var response = HttpResponse.ok("""
                 {
-                  "total_count": 1,
+                  "total_count": %d,
                   "incomplete_results": false,
                   "items": [
                     {
-                      "id": 1, "number": 42, "title": "Test Issue", "state": "open",
+                      "id": 1, "number": 42, "title": "Test Issue", "state": "open", "node_id": "I_kwDOAAAAAc4AAAAq",
                       "url": "%s/repos/kestra-io/plugin-github/issues/42",
-                      "html_url": "https://github.com/kestra-io/plugin-github/issues/42",
+                      "html_url": "https://github.com/kestra-io/plugin-github/issues/42",%s
                       "user": {"login": "kestra-io", "id": 1, "type": "User"},
                       "assignee": null, "assignees": [], "labels": [], "comments": 0,
                       "created_at": "2024-01-01T00:00:00Z",
@@ -409,10 +497,29 @@ public class MockController {
                     }
                   ]
                 }
-                """.formatted(base));
+                """.formatted(total, base, textMatches(request, "Issue", "Test Issue", "Issue")));
+
+            // GitHub links the pages up to the 1000 results cap
+            var perPage = Integer.parseInt(request.getParameters().getFirst("per_page").orElse("30"));
+            var last = (Math.min(total, 1000) + perPage - 1) / perPage;
+            if (last < 2) {
+                return response;
+            }
+
+            var link = base + "/search/issues?q=" + URLEncoder.encode(q, StandardCharsets.UTF_8) + "&per_page=" + perPage + "&page=";
+            return response.header("Link", "<%s2>; rel=\"next\", <%s%d>; rel=\"last\"".formatted(link, link, last));
         }
     }
 
+    // pretend that created date ranges longer than ten years hold more than the 1000 hits cap, to exercise sharding
+    private static int issueTotalCount(String q) {
+        var range = Pattern.compile("created:(\\S+)\\.\\.(\\S+)").matcher(q);
+        if (range.find() && Duration.between(Instant.parse(range.group(1)), Instant.parse(range.group(2))).toDays() > 3650) {
+            return 1500;
+        }
+        return 1;
+    }
+
     @Get("/repos/{owner}/{repo}/pulls/{number}")
     public HttpResponse<String> getPullRequest(HttpRequest<?> request, @PathVariable String owner, @PathVariable String repo, @PathVariable String number) {
         capture(request);
@@ -459,7 +566,7 @@ public class MockController {
               "incomplete_results": false,
               "items": [
                 {
-                  "id": 1, "name": "plugin-github", "full_name": "kestra-io/plugin-github",
+                  "id": 1, "node_id": "R_kgDOAAAAAQ", "name": "plugin-github", "full_name": "kestra-io/plugin-github",
                   "html_url": "https://github.com/kestra-io/plugin-github",
                   "description": "GitHub plugin for Kestra",
                   "owner": {"login": "kestra-io", "id": 1, "type": "Organization"},
@@ -483,9 +590,70 @@ public class MockController {
         if (data.contains("projectV2")) {
             return handleProjectsQuery(data);
         }
+        if (data.contains("nodes(ids:")) {
+            return handleNodesQuery(data);
+        }
+        if (data.contains("repositoryOwner(")) {
+            return handleRepositoryOwnersQuery(data);
+        }
         return HttpResponse.ok("{\"data\":{}}");
     }
 
+    private HttpResponse<String> handleRepositoryOwnersQuery(String body) {
+        try {
+            var owners = MAPPER.createObjectNode();
+            MAPPER.readTree(body).path("variables").fields().forEachRemaining(variable -> {
+                var alias = "u" + variable.getKey().substring(1);
+                if (variable.getValue().asText().equals("kestra-io")) {
+                    owners.set(alias, MAPPER.valueToTree(Map.of(
+                        "__typename", "Organization",
+                        "login", "kestra-io",
+                        "name", "Kestra GraphQL",
+                        "location", "Paris",
+                        "createdAt", "2019-01-01T00:00:00Z",
+                        "publicRepositories", Map.of("totalCount", 42)
+                    )));
+                } else {
+                    owners.putNull(alias);
+                }
+            });
+
+            return HttpResponse.ok(MAPPER.writeValueAsString(Map.of("data", owners)));
+        } catch (Exception e) {
+            return HttpResponse.serverError("{\"errors\":[{\"message\":\"mock error\"}]}");
+        }
+    }
+
+    private HttpResponse<String> handleNodesQuery(String body) {
+        try {
+            var nodes = MAPPER.createArrayNode();
+            for (var id : MAPPER.readTree(body).path("variables").path("ids")) {
+                if (id.asText().startsWith("PR_")) {
+                    nodes.add(MAPPER.readTree("""
+                        {
+                          "id": "%s",
+                          "baseRefName": "graphql-base",
+                          "headRefName": "graphql-head",
+                          "repository": {"name": "plugin-github", "url": "https://github.com/kestra-io/plugin-github"},
+                          "reviewRequests": {"nodes": [{"requestedReviewer": {"login": "copilot"}}]},
+                          "closedBy": {"nodes": [{"actor": {"login": "kestra-io"}}]}
+                        }
+                        """.formatted(id.asText())));
+                } else if (id.asText().startsWith("R_")) {
+                    nodes.add(MAPPER.readTree("""
+                        {"id": "%s", "pullRequests": {"totalCount": 7}}
+                        """.formatted(id.asText())));
+                } else {
+                    nodes.addNull();
+                }
+            }
+
+            return HttpResponse.ok(MAPPER.writeValueAsString(Map.of("data", Map.of("nodes", nodes))));
+        } catch (Exception e) {
+            return HttpResponse.serverError("{\"errors\":[{\"message\":\"mock error\"}]}");
+        }
+    }
+
     private HttpResponse<String> handleProjectsQuery(String body) {
         try {
             var root = MAPPER.readTree(body);
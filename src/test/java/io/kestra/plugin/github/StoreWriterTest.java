@@ -0,0 +1,50 @@
+package io.kestra.plugin.github;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContextFactory;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class StoreWriterTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void boundOpenPartitions() throws Exception {
+        var runContext = runContextFactory.of();
+        var partitions = StoreWriter.MAX_OPEN_PARTITIONS * 2;
+
+        try (var store = new StoreWriter(runContext, null, "author", AbstractGithubSearchTask.Compression.NONE)) {
+            // every value twice, far apart
+            for (int round = 0; round < 2; round++) {
+                for (int i = 0; i < partitions; i++) {
+                    store.write(Map.of("author", "user-" + i, "round", round));
+
+                    try (var files = Files.list(runContext.workingDir().path())) {
+                        assertThat(files.count(), lessThanOrEqualTo((long) StoreWriter.MAX_OPEN_PARTITIONS));
+                    }
+                }
+            }
+            store.complete();
+
+            assertThat(store.getSize(), is(partitions * 2));
+            assertThat(store.getPartitions().keySet(), hasSize(partitions));
+            // the file of each value was uploaded to make room for the others, its second row went to a new file
+            assertThat(store.getPartitions().get("user-0"), hasSize(2));
+            assertThat(store.getUris(), hasSize(partitions * 2));
+            // in the order of the first row of each file, not in upload order
+            for (int i = 0; i < partitions; i++) {
+                var files = store.getPartitions().get("user-" + i);
+                assertThat(store.getUris().get(i), is(files.get(0)));
+                assertThat(store.getUris().get(partitions + i), is(files.get(1)));
+            }
+        }
+    }
+}
@@ -31,4 +31,25 @@ public class RunWorkflowTest extends AbstractGithubClientTest {
 
         assertThat(MockController.data).isEqualTo("{\"ref\":\"master\"}");
     }
+
+    @Test
+    void testRunWorkflowRevalidatesCachedWorkflow() throws Exception {
+        var runWorkflowTask = RunWorkflow.builder()
+            .oauthToken(Property.ofValue("etag-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/mock-kestra"))
+            .workflowId(Property.ofValue("105842276"))
+            .ref(Property.ofValue("master"))
+            .build();
+
+        runWorkflowTask.run(runContextFactory.of());
+        assertThat(MockController.notModifiedCount).isZero();
+
+        var runContext = runContextFactory.of();
+        runWorkflowTask.run(runContext);
+
+        assertThat(MockController.notModifiedCount).isEqualTo(1);
+        assertThat(MockController.data).isEqualTo("{\"ref\":\"master\"}");
+        assertThat(runContext.metrics().stream().filter(m -> m.getName().equals("cache.hits")).count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,143 @@
+package io.kestra.plugin.github.client;
+
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+import org.kohsuke.github.extras.HttpClientGitHubConnector;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GithubClientPoolTest {
+    @Test
+    void reuseClientForSameCredentials() throws Exception {
+        var pool = new GithubClientPool(4, Duration.ofMinutes(1), Clock.systemUTC());
+
+        var key = new GithubClientPool.Key("https://api.github.com", GithubClientPool.fingerprint(null, "token", null, null));
+        var first = pool.get(key, HttpClientGitHubConnector::new);
+        var second = pool.get(new GithubClientPool.Key("https://api.github.com", GithubClientPool.fingerprint(null, "token", null, null)), HttpClientGitHubConnector::new);
+
+        assertThat(second, sameInstance(first));
+
+        var other = pool.get(new GithubClientPool.Key("https://api.github.com", GithubClientPool.fingerprint(null, "other", null, null)), HttpClientGitHubConnector::new);
+        assertThat(other, not(sameInstance(first)));
+        assertThat(pool.size(), is(2));
+    }
+
+    @Test
+    void evictIdleAndEldest() throws Exception {
+        var clock = new MutableClock();
+        var pool = new GithubClientPool(2, Duration.ofMinutes(1), clock);
+
+        var a = new GithubClientPool.Key("https://api.github.com", "a");
+        var b = new GithubClientPool.Key("https://api.github.com", "b");
+        var c = new GithubClientPool.Key("https://api.github.com", "c");
+
+        var clientA = pool.get(a, HttpClientGitHubConnector::new);
+        pool.get(b, HttpClientGitHubConnector::new);
+        pool.get(c, HttpClientGitHubConnector::new);
+
+        assertThat(pool.size(), is(2));
+        assertThat(pool.get(a, HttpClientGitHubConnector::new), not(sameInstance(clientA)));
+
+        clock.advance(Duration.ofMinutes(2));
+        pool.get(b, HttpClientGitHubConnector::new);
+
+        assertThat(pool.size(), is(1));
+    }
+
+    @Test
+    void closeEvictedClients() throws Exception {
+        var clock = new MutableClock();
+        var pool = new GithubClientPool(1, Duration.ofMinutes(1), clock);
+
+        var a = new ClosingConnector();
+        var b = new ClosingConnector();
+        pool.get(new GithubClientPool.Key("https://api.github.com", "a"), () -> a);
+        pool.get(new GithubClientPool.Key("https://api.github.com", "b"), () -> b);
+
+        // evicted as the eldest
+        assertThat(a.closed.await(5, TimeUnit.SECONDS), is(true));
+
+        pool.invalidate(new GithubClientPool.Key("https://api.github.com", "b"));
+        assertThat(b.closed.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(pool.size(), is(0));
+    }
+
+    @Test
+    void buildClientsOutsideTheLock() throws Exception {
+        var pool = new GithubClientPool(4, Duration.ofMinutes(1), Clock.systemUTC());
+        var building = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var slow = Thread.ofVirtual().start(() -> {
+            try {
+                pool.get(new GithubClientPool.Key("https://api.github.com", "slow"), () -> {
+                    building.countDown();
+                    release.await();
+                    return new ClosingConnector();
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(building.await(5, TimeUnit.SECONDS), is(true));
+        // another key is served while the slow client is still being built
+        assertThat(pool.get(new GithubClientPool.Key("https://api.github.com", "fast"), ClosingConnector::new), notNullValue());
+
+        release.countDown();
+        slow.join();
+        assertThat(pool.size(), is(2));
+    }
+
+    @Test
+    void borrowFreshClientAfterEviction() throws Exception {
+        var pool = new GithubClientPool(1, Duration.ofMinutes(1), Clock.systemUTC());
+        var key = new GithubClientPool.Key("https://api.github.com", "a");
+        var created = new AtomicInteger();
+
+        var connector = pool.borrowing(key, () -> {
+            created.incrementAndGet();
+            return new ClosingConnector();
+        });
+        assertThrows(UnsupportedOperationException.class, () -> connector.send(null));
+        assertThat(created.get(), is(1));
+
+        // the run outlives the eviction of its client and gets a new pooled one
+        pool.invalidate(key);
+        assertThrows(UnsupportedOperationException.class, () -> connector.send(null));
+        assertThat(created.get(), is(2));
+        assertThat(pool.size(), is(1));
+    }
+
+    @Test
+    void failFastOnceClosed() {
+        var connector = new PooledHttpConnector();
+        connector.close();
+
+        assertThrows(PooledHttpConnector.Closed.class, () -> connector.send(null));
+    }
+
+    private static class ClosingConnector implements GitHubConnector, AutoCloseable {
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public GitHubConnectorResponse send(GitHubConnectorRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
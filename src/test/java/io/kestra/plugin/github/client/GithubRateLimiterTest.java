@@ -0,0 +1,112 @@
+package io.kestra.plugin.github.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class GithubRateLimiterTest {
+    @Test
+    void waitForResetWhenQuotaIsExhausted() {
+        var clock = new MutableClock();
+        var rateLimiter = new GithubRateLimiter(100, clock);
+        var reset = clock.instant().plusSeconds(30).getEpochSecond();
+
+        rateLimiter.update(GithubRateLimiter.CORE, 200, Map.of(
+            "X-RateLimit-Remaining", "1",
+            "X-RateLimit-Reset", String.valueOf(reset)
+        )::get);
+
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), greaterThan(Duration.ofSeconds(25).toMillis()));
+
+        // other resources have their own quota
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+
+        clock.advance(Duration.ofSeconds(32));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+    }
+
+    @Test
+    void classifyPathsBelowTheApiRoot() {
+        var rateLimiter = new GithubRateLimiter("https://ghe.acme.com/api/v3", 100, new MutableClock());
+
+        assertThat(rateLimiter.resourceOf("/api/v3/search/issues"), is(GithubRateLimiter.SEARCH));
+        assertThat(rateLimiter.resourceOf("/api/v3/search/code"), is(GithubRateLimiter.CODE_SEARCH));
+        assertThat(rateLimiter.resourceOf("/api/graphql"), is(GithubRateLimiter.GRAPHQL));
+
+        // repositories named like an API route
+        assertThat(rateLimiter.resourceOf("/api/v3/repos/acme/search/pulls/1"), is(GithubRateLimiter.CORE));
+        assertThat(rateLimiter.resourceOf("/api/v3/repos/acme/graphql"), is(GithubRateLimiter.CORE));
+        assertThat(new GithubRateLimiter(100, new MutableClock()).resourceOf("/repos/search/search/issues"), is(GithubRateLimiter.CORE));
+    }
+
+    @Test
+    void pauseOnRetryAfter() {
+        var clock = new MutableClock();
+        var rateLimiter = new GithubRateLimiter(100, clock);
+
+        rateLimiter.update(GithubRateLimiter.CORE, 403, Map.of("Retry-After", "60")::get);
+
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(Duration.ofSeconds(60).toMillis()));
+
+        clock.advance(Duration.ofSeconds(60));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+    }
+
+    @Test
+    void paceRequests() {
+        var clock = new MutableClock();
+        var rateLimiter = new GithubRateLimiter(2, clock);
+
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(500L));
+
+        clock.advance(Duration.ofMillis(500));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+    }
+
+    @Test
+    void paceSearchSeparately() {
+        var clock = new MutableClock();
+        var rateLimiter = new GithubRateLimiter(100, clock);
+        rateLimiter.limit(GithubRateLimiter.SEARCH, 2);
+
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(Duration.ofSeconds(30).toMillis()));
+
+        // the core quota is not affected by the search one
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.CORE), is(0L));
+
+        // setting the same limit again keeps the bucket state
+        rateLimiter.limit(GithubRateLimiter.SEARCH, 2);
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), greaterThan(0L));
+    }
+
+    @Test
+    void keepOneSearchBucketAcrossLimits() {
+        var clock = new MutableClock();
+        var rateLimiter = new GithubRateLimiter(100, clock);
+        rateLimiter.limit(GithubRateLimiter.SEARCH, 3);
+
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+
+        // another run asking for a higher rate neither refills nor speeds up the bucket
+        rateLimiter.limit(GithubRateLimiter.SEARCH, 30);
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(Duration.ofSeconds(20).toMillis()));
+
+        // a lower rate applies, without refilling the bucket either
+        rateLimiter.limit(GithubRateLimiter.SEARCH, 2);
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(Duration.ofSeconds(30).toMillis()));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(rateLimiter.nextWait(GithubRateLimiter.SEARCH), is(0L));
+    }
+}
@@ -0,0 +1,198 @@
+package io.kestra.plugin.github.client;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContextFactory;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class PrefetchingGitHubConnectorTest {
+    private static final String SEARCH_URL = "https://api.github.com/search/issues?q=repo%3Akestra-io%2Fkestra+is%3Aissue&per_page=2";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void prefetchRemainingPagesInOrder() throws Exception {
+        var sent = new ConcurrentLinkedQueue<String>();
+        var connector = new PrefetchingGitHubConnector(new PagesConnector(sent, 4), null, 3, null, runContextFactory.of());
+
+        assertThat(body(connector.send(new GetRequest(SEARCH_URL))), is("page 1"));
+
+        // the paginator follows the Link header, whose parameters are ordered and encoded differently
+        for (int page = 2; page <= 4; page++) {
+            var next = "https://api.github.com/search/issues?per_page=2&page=" + page + "&q=repo:kestra-io/kestra%20is:issue";
+            assertThat(body(connector.send(new GetRequest(next))), is("page " + page));
+        }
+
+        assertThat(sent.size(), is(4));
+    }
+
+    @Test
+    void neverPrefetchBeyondMaxResults() throws Exception {
+        var sent = new ConcurrentLinkedQueue<String>();
+        // 2 hits per page
+        var connector = new PrefetchingGitHubConnector(new PagesConnector(sent, 10), null, 4, 4, runContextFactory.of());
+
+        connector.send(new GetRequest(SEARCH_URL));
+        assertThat(body(connector.send(new GetRequest(SEARCH_URL + "&page=2"))), is("page 2"));
+
+        assertThat(sent.size(), is(2));
+    }
+
+    @Test
+    void neverPrefetchProbes() throws Exception {
+        var sent = new ConcurrentLinkedQueue<String>();
+        var connector = new PrefetchingGitHubConnector(new PagesConnector(sent, 1000), null, 4, null, runContextFactory.of());
+
+        var body = PrefetchingGitHubConnector.withoutPrefetch(() -> {
+            try {
+                return body(connector.send(new GetRequest(SEARCH_URL)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(body, is("page 1"));
+        assertThat(sent.size(), is(1));
+    }
+
+    @Test
+    void keepAtMostConcurrencyPagesAhead() throws Exception {
+        var sent = new ConcurrentLinkedQueue<String>();
+        var connector = new PrefetchingGitHubConnector(new PagesConnector(sent, 10), null, 2, null, runContextFactory.of());
+
+        connector.send(new GetRequest(SEARCH_URL));
+        assertThat(body(connector.send(new GetRequest(SEARCH_URL + "&page=2"))), is("page 2"));
+        assertThat(body(connector.send(new GetRequest(SEARCH_URL + "&page=3"))), is("page 3"));
+
+        // page 3 was read, so pages 4 and 5 at most are requested or buffered
+        assertThat(sent.stream().map(PrefetchingGitHubConnectorTest::pageOf).toList(), everyItem(lessThanOrEqualTo(5)));
+        PrefetchingGitHubConnector.release();
+    }
+
+    @Test
+    void releaseCancelsOutstandingPages() throws Exception {
+        var interrupted = new CountDownLatch(2);
+        var connector = new PrefetchingGitHubConnector(new BlockingConnector(interrupted), null, 2, null, runContextFactory.of());
+
+        connector.send(new GetRequest(SEARCH_URL));
+
+        // the paginator stops after the first page
+        PrefetchingGitHubConnector.release();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    private static int pageOf(String url) {
+        var page = url.replaceAll("(?:^|.*[?&])page=(\\d+).*", "$1");
+        return page.equals(url) ? 1 : Integer.parseInt(page);
+    }
+
+    private static String body(GitHubConnectorResponse response) throws Exception {
+        try (var stream = response.bodyStream()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private record PagesConnector(Queue<String> sent, int pages) implements GitHubConnector {
+        @Override
+        public GitHubConnectorResponse send(GitHubConnectorRequest request) {
+            sent.add(request.url().toString());
+
+            var query = request.url().getQuery();
+            var page = query.replaceAll("(?:^|.*&)page=(\\d+).*", "$1");
+            var number = page.equals(query) ? "1" : page;
+            var last = SEARCH_URL + "&page=" + pages;
+
+            return new BufferedResponse(
+                request,
+                200,
+                Map.of("Link", List.of("<" + last + ">; rel=\"last\"")),
+                ("page " + number).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    // answers the first page, then blocks on the next ones until interrupted
+    private record BlockingConnector(CountDownLatch interrupted) implements GitHubConnector {
+        @Override
+        public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+            if (pageOf(request.url().toString()) > 1) {
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new InterruptedIOException();
+                }
+            }
+
+            return new BufferedResponse(
+                request,
+                200,
+                Map.of("Link", List.of("<" + SEARCH_URL + "&page=10>; rel=\"last\"")),
+                "page 1".getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    private record GetRequest(String uri) implements GitHubConnectorRequest {
+        @Override
+        public String method() {
+            return "GET";
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return Map.of();
+        }
+
+        @Override
+        public String header(String name) {
+            return null;
+        }
+
+        @Override
+        public String contentType() {
+            return null;
+        }
+
+        @Override
+        public InputStream body() {
+            return null;
+        }
+
+        @Override
+        public URL url() {
+            try {
+                return URI.create(uri).toURL();
+            } catch (Exception e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        @Override
+        public boolean hasBody() {
+            return false;
+        }
+    }
+}
@@ -2,23 +2,30 @@ package io.kestra.plugin.github.code;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.MockController;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 public class SearchTest extends AbstractGithubClientTest {
@@ -71,6 +78,84 @@ public class SearchTest extends AbstractGithubClientTest {
         assertThat(result.getFirst().get("repository_name"), is("plugin-github"));
     }
 
+    @Test
+    void testFetchContent() throws Exception {
+        var task = Search.builder()
+            .id("content_search")
+            .type(Search.class.getName())
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("duplicated repo:kestra-io/plugin-github"))
+            .fetchContent(Property.ofValue(true))
+            .contentCache(Property.ofValue(Search.ContentCache.KV))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        MockController.blobDownloads = 0;
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        // both hits share the blob, downloaded once
+        assertThat(run.getRows().size(), is(2));
+        assertThat(MockController.blobDownloads, is(1));
+        var uri = URI.create(run.getRows().getFirst().get("content_uri").toString());
+        assertThat(run.getRows().get(1).get("content_uri").toString(), is(uri.toString()));
+        try (var content = runContext.storage().getFile(uri)) {
+            assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8), containsString("public class Search"));
+        }
+
+        // the next execution copies the stored blob into its own storage instead of downloading it
+        RunContext next = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        run = task.run(next);
+
+        var copy = URI.create(run.getRows().getFirst().get("content_uri").toString());
+        assertThat(copy, is(not(uri)));
+        try (var content = next.storage().getFile(copy)) {
+            assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8), containsString("public class Search"));
+        }
+        assertThat(MockController.blobDownloads, is(1));
+        assertThat(next.metrics().stream().filter(metric -> metric.getName().equals("code.content.cache.hits")).count(), is(1L));
+    }
+
+    @Test
+    void testRawRejectsFetchContent() throws Exception {
+        var task = Search.builder()
+            .id("raw_content_search")
+            .type(Search.class.getName())
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("duplicated repo:kestra-io/plugin-github"))
+            .fetchContent(Property.ofValue(true))
+            .raw(Property.ofValue(true))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTextMatches() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("Search repo:kestra-io/plugin-github"))
+            .textMatches(Property.ofValue(true))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(MockController.headers.get("accept"), containsString("text-match"));
+        var fragments = (List<Map<String, Object>>) run.getRows().getFirst().get("text_matches");
+        assertThat(fragments, hasSize(1));
+        assertThat(fragments.getFirst().get("fragment"), is("public class Search"));
+        assertThat(fragments.getFirst().get("property"), is("content"));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
@@ -2,11 +2,14 @@ package io.kestra.plugin.github.commits;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
 import jakarta.inject.Inject;
@@ -71,6 +74,38 @@ public class SearchTest extends AbstractGithubClientTest {
         assertThat(result.getFirst().get("message"), is("Initial commit"));
     }
 
+    @Test
+    void testCommitCache() throws Exception {
+        var task = Search.builder()
+            .id("commit_cache_search")
+            .type(Search.class.getName())
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("Initial repo:kestra-io/plugin-github"))
+            .properties(Property.ofValue(List.of("sha", "lines_changed", "lines_added", "lines_deleted", "last_status")))
+            .commitCache(Property.ofValue(Search.CommitCache.KV))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRows().getFirst().get("lines_changed"), is(10));
+        assertThat(run.getRows().getFirst().get("lines_added"), is(7));
+        assertThat(run.getRows().getFirst().get("lines_deleted"), is(3));
+
+        var cached = runContext.namespaceKv(runContext.flowInfo().namespace()).getValue("github-commit-1-abc123def456");
+        assertThat(cached.isPresent(), is(true));
+
+        // the next execution reads the details from the KV store
+        RunContext next = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        run = task.run(next);
+
+        assertThat(run.getRows().getFirst().get("lines_changed"), is(10));
+        assertThat(next.metrics().stream().filter(metric -> metric.getName().equals("commits.cache.hits")).count(), is(1L));
+        assertThat(next.metrics().stream().filter(metric -> metric.getName().equals("commits.cache.misses")).count(), is(0L));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
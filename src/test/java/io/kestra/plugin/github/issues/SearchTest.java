@@ -2,13 +2,18 @@ package io.kestra.plugin.github.issues;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.AbstractGithubShardedSearchTask;
+import io.kestra.plugin.github.MockController;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
@@ -19,9 +24,10 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
-public class SearchTest {
+public class SearchTest extends AbstractGithubClientTest {
     @Inject
     private RunContextFactory runContextFactory;
 
@@ -92,6 +98,135 @@ public class SearchTest {
         assertThat((String) first.get("url"), containsString("plugin-github"));
     }
 
+    @Test
+    void testShardByCreated() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        var task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .shardBy(Property.ofValue(AbstractGithubShardedSearchTask.ShardBy.CREATED))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        // the mock reports 1500 hits for the whole history, so it is split in two halves that both return the same issue
+        assertThat(run.getPages(), is(2));
+        assertThat(run.getTotal(), is(2L));
+        assertThat(run.getSize(), is(1));
+    }
+
+    @Test
+    void testShardProbesAreNotPrefetched() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        var task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .shardBy(Property.ofValue(AbstractGithubShardedSearchTask.ShardBy.CREATED))
+            .pageConcurrency(Property.ofValue(4))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        MockController.requests.clear();
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getSize(), is(1));
+        // the whole history and its two halves are probed for their total, then each half is fetched; the probe of the
+        // whole history links 1000 pages of one hit, none of which is requested
+        var searches = MockController.requests.stream().filter(uri -> uri.startsWith("/search/issues")).toList();
+        assertThat(searches, hasSize(5));
+        assertThat(searches, everyItem(not(matchesPattern(".*[?&]page=.*"))));
+    }
+
+    @Test
+    void testIncrementalRejectsShardByUpdated() {
+        var task = Search.builder()
+            .id("incremental_sharded_search")
+            .type(Search.class.getName())
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .shardBy(Property.ofValue(AbstractGithubShardedSearchTask.ShardBy.UPDATED))
+            .incremental(Property.ofValue(true))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of())));
+        assertThat(exception.getMessage(), containsString("shardBy: UPDATED"));
+    }
+
+    @Test
+    void testIncremental() throws Exception {
+        var task = Search.builder()
+            .id("incremental_search")
+            .type(Search.class.getName())
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .incremental(Property.ofValue(true))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getSize(), is(1));
+
+        var watermark = runContext.namespaceKv(runContext.flowInfo().namespace())
+            .getValue("github-watermark-" + runContext.flowInfo().id() + "-incremental_search");
+        assertThat(watermark.isPresent(), is(true));
+        assertThat(watermark.get().value(), is("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void testRaw() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        var task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .raw(Property.ofValue(true))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getSize(), is(1));
+        assertThat(run.getPages(), is(1));
+
+        List<Map<String, Object>> result = getResult(run);
+        assertThat(result.size(), is(1));
+        // the item is written as returned by GitHub
+        assertThat(result.getFirst().get("number"), is(42));
+        assertThat(result.getFirst().get("html_url"), is("https://github.com/kestra-io/plugin-github/issues/42"));
+        assertThat(result.getFirst().get("created_at"), is("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTextMatches() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        var task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("Issue repo:kestra-io/plugin-github"))
+            .textMatches(Property.ofValue(true))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        var fragments = (List<Map<String, Object>>) run.getRows().getFirst().get("text_matches");
+        assertThat(fragments, hasSize(1));
+        assertThat(fragments.getFirst().get("fragment"), is("Test Issue"));
+        assertThat(fragments.getFirst().get("property"), is("title"));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
@@ -5,12 +5,15 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.plugin.github.AbstractGithubClientTest;
+import io.kestra.plugin.github.AbstractGithubSearchTask;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -94,6 +97,24 @@ class ListTest extends AbstractGithubClientTest {
         assertThat(output.getRows().getFirst().get("Owner")).isEqualTo("Team A");
     }
 
+    @Test
+    void propertiesProjection() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(2))
+            .fields(Property.ofValue(Map.of("Owner", "Team A")))
+            .properties(Property.ofValue(java.util.List.of("number", "title")))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        var output = task.run(runContext);
+
+        assertThat(output.getSize()).isEqualTo(1);
+        assertThat(output.getRows().getFirst()).containsOnlyKeys("number", "title");
+    }
+
     @Test
     void statusFilter() throws Exception {
         var runContext = runContextFactory.of();
@@ -163,6 +184,84 @@ class ListTest extends AbstractGithubClientTest {
         assertThat(output.getSize()).isEqualTo(1);
     }
 
+    @Test
+    void storeSplitInFiles() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(2))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .maxRowsPerFile(Property.ofValue(1))
+            .build();
+
+        var output = task.run(runContext);
+
+        assertThat(output.getUri()).isNull();
+        assertThat(output.getUris()).hasSize(2);
+        assertThat(output.getPartitions()).isNull();
+        assertThat(output.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void storePartitioned() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(2))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .partitionBy(Property.ofValue("number"))
+            .build();
+
+        var output = task.run(runContext);
+
+        assertThat(output.getPartitions()).containsOnlyKeys("1", "2");
+        assertThat(output.getPartitions().get("1")).hasSize(1);
+        assertThat(output.getUris()).hasSize(2);
+        assertThat(output.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void storeCompressed() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .compression(Property.ofValue(AbstractGithubSearchTask.Compression.GZIP))
+            .build();
+
+        var output = task.run(runContext);
+
+        assertThat(output.getUri().getPath()).endsWith(".ion.gz");
+        assertThat(output.getSize()).isEqualTo(1);
+
+        try (var input = new GZIPInputStream(runContext.storage().getFile(output.getUri()))) {
+            var rows = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(rows).contains("My task");
+        }
+    }
+
+    @Test
+    void fetchSpillsToStore() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(2))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .fetchMaxRows(Property.ofValue(1))
+            .build();
+
+        var output = task.run(runContext);
+
+        assertThat(output.getRows()).isNull();
+        assertThat(output.getUri()).isNotNull();
+        assertThat(output.getSize()).isEqualTo(2);
+    }
+
     @Test
     void missingOrganizationThrows() {
         var runContext = runContextFactory.of();
@@ -207,4 +306,29 @@ class ListTest extends AbstractGithubClientTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("read:project");
     }
+
+    @Test
+    void rawAndPageConcurrencyRejected() {
+        var runContext = runContextFactory.of();
+
+        var raw = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(1))
+            .raw(Property.ofValue(true))
+            .build();
+
+        assertThatThrownBy(() -> raw.run(runContext))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("raw");
+
+        var concurrent = defaultBuilder()
+            .organization(Property.ofValue("kestra-io"))
+            .projectNumber(Property.ofValue(1))
+            .pageConcurrency(Property.ofValue(4))
+            .build();
+
+        assertThatThrownBy(() -> concurrent.run(runContext))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("pageConcurrency");
+    }
 }
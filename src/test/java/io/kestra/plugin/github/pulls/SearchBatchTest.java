@@ -0,0 +1,93 @@
+package io.kestra.plugin.github.pulls;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.plugin.github.AbstractGithubClientTest;
+import io.kestra.plugin.github.AbstractGithubSearchTask;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+public class SearchBatchTest extends AbstractGithubClientTest {
+    private static final List<String> QUERIES = List.of(
+        "repo:kestra-io/plugin-github is:closed",
+        "repo:kestra-io/kestra is:closed",
+        "repo:kestra-io/plugin-github is:closed"
+    );
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void merged() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SearchBatch task = SearchBatch.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .queries(Property.ofValue(QUERIES))
+            .queryConcurrency(Property.ofValue(2))
+            .build();
+
+        SearchBatch.Output run = task.run(runContext);
+
+        assertThat(run.getQueries(), is(nullValue()));
+        assertThat(run.getSize(), is(2));
+        assertThat(run.getMerged().getTotal(), is(2L));
+
+        // the same pull request is returned by both queries, in the order of the queries
+        List<Map<String, Object>> result = getResult(run.getMerged());
+        assertThat(result.stream().map(row -> row.get("query")).toList(), contains(QUERIES.get(0), QUERIES.get(1)));
+        assertThat(result.stream().map(row -> row.get("number")).toList(), contains(10, 10));
+    }
+
+    @Test
+    void perQuery() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SearchBatch task = SearchBatch.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .queries(Property.ofValue(QUERIES))
+            .outputMode(Property.ofValue(SearchBatch.OutputMode.PER_QUERY))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build();
+
+        SearchBatch.Output run = task.run(runContext);
+
+        assertThat(run.getMerged(), is(nullValue()));
+        assertThat(run.getSize(), is(2));
+        assertThat(run.getQueries().keySet(), contains(QUERIES.get(0), QUERIES.get(1)));
+        run.getQueries().forEach((query, output) -> {
+            assertThat(output.getSize(), is(1));
+            assertThat(output.getRows().getFirst().get("query"), is(query));
+            assertThat(output.getRows().getFirst().get("state"), is("CLOSED"));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
+        try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
+            var iterator = JacksonMapper.ofIon().readerFor(Object.class).readValues(inputStream);
+            return (List) FileSerde.readAll(iterator).collectList().block();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.kestra.plugin.github.pulls;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
@@ -10,6 +11,7 @@ import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.MockController;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +100,110 @@ public class SearchTest extends AbstractGithubClientTest {
         assertThat(result.getFirst().get("state"), is("CLOSED"));
     }
 
+    @Test
+    void testFetchOne() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("repo:kestra-io/plugin-github is:closed"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getUri(), is(nullValue()));
+        assertThat(run.getSize(), is(1));
+        assertThat(run.getRow().get("state"), is("CLOSED"));
+    }
+
+    @Test
+    void testMaxResults() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("repo:kestra-io/plugin-github is:closed"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .maxResults(Property.ofValue(1))
+            .pageSize(Property.ofValue(50))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getSize(), is(1));
+        assertThat(run.getPages(), is(1));
+        assertThat(run.getTotal(), is(1L));
+    }
+
+    @Test
+    void testProperties() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("repo:kestra-io/plugin-github is:closed"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .properties(Property.ofValue(List.of("number", "state")))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRow().keySet(), containsInAnyOrder("number", "state"));
+        // the last request is still the search one: the pull request itself was never loaded
+        assertThat(MockController.queryParameters, hasKey("q"));
+    }
+
+    @Test
+    void testGraphqlEnrichment() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("repo:kestra-io/plugin-github is:closed"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .enrichment(Property.ofValue(AbstractGithubSearchTask.Enrichment.GRAPHQL))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRow().get("base"), is("graphql-base"));
+        assertThat(run.getRow().get("head"), is("graphql-head"));
+        assertThat(run.getRow().get("closed_by"), is("kestra-io"));
+        assertThat(run.getRow().get("requested_reviewers"), is(List.of("copilot")));
+    }
+
+    @Test
+    void testStoreStreamsPages() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("streamed repo:kestra-io/plugin-github"))
+            .pageSize(Property.ofValue(1))
+            .properties(Property.ofValue(List.of("number", "base")))
+            .build();
+
+        MockController.requests.clear();
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getSize(), is(3));
+        assertThat(run.getPages(), is(3));
+        assertThat(getResult(run).stream().map(row -> row.get("number")).toList(), contains(10, 11, 12));
+
+        // each hit is mapped, loading its pull request, and written before the next page is requested
+        var sequence = MockController.requests.stream()
+            .filter(uri -> uri.startsWith("/search/issues") || uri.matches("/repos/kestra-io/plugin-github/pulls/\\d+"))
+            .map(uri -> uri.startsWith("/search/issues") ? "page" : "pull " + uri.substring(uri.lastIndexOf('/') + 1))
+            .toList();
+        assertThat(sequence, contains("page", "pull 10", "page", "pull 11", "page", "pull 12"));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
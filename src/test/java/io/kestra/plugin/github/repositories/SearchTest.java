@@ -2,13 +2,16 @@ package io.kestra.plugin.github.repositories;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.MockController;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +24,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @KestraTest
-public class SearchTest {
+public class SearchTest extends AbstractGithubClientTest {
     @Inject
     private RunContextFactory runContextFactory;
 
@@ -94,6 +97,42 @@ public class SearchTest {
         assertThat(result.getFirst().get("template"), is(false));
     }
 
+    @Test
+    void testPullRequestCount() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .properties(Property.ofValue(List.of("name", "pull_request_count")))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRow().get("pull_request_count"), is(7));
+    }
+
+    @Test
+    void testSkipPullRequestCount() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .repository(Property.ofValue("kestra-io/plugin-github"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .properties(Property.ofValue(List.of("name", "pull_request_count")))
+            .countPullRequests(Property.ofValue(false))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRow().get("pull_request_count"), is(0));
+        assertThat(MockController.data, is(nullValue()));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
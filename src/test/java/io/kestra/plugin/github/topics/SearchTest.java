@@ -20,6 +20,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 public class SearchTest extends AbstractGithubClientTest {
@@ -75,6 +76,58 @@ public class SearchTest extends AbstractGithubClientTest {
         assertThat(result.getFirst().get("name"), is("spring-cloud"));
     }
 
+    @Test
+    void testRawRejected() {
+        var runContext = runContextFactory.of();
+
+        var task = io.kestra.plugin.github.topics.Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("Spring Cloud"))
+            .raw(Property.ofValue(true))
+            .build();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+
+        assertThat(exception.getMessage(), containsString("raw"));
+    }
+
+    @Test
+    void testPagination() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = io.kestra.plugin.github.topics.Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("paginated"))
+            .pageSize(Property.ofValue(1))
+            .build();
+
+        var run = task.run(runContext);
+
+        assertThat(run.getPages(), is(2));
+        assertThat(run.getTotal(), is(2L));
+        assertThat(getResult(run).stream().map(topic -> topic.get("name")).toList(), contains("spring-cloud", "spring-boot"));
+    }
+
+    @Test
+    void testMaxResultsStopsPagination() throws Exception {
+        var runContext = runContextFactory.of();
+
+        var task = io.kestra.plugin.github.topics.Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("paginated"))
+            .maxResults(Property.ofValue(1))
+            .build();
+
+        var run = task.run(runContext);
+
+        assertThat(run.getSize(), is(1));
+        assertThat(run.getPages(), is(1));
+        assertThat(MockController.queryParameters.get("per_page"), is("1"));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {
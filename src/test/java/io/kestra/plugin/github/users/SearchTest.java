@@ -2,6 +2,7 @@ package io.kestra.plugin.github.users;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
@@ -10,6 +11,7 @@ import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.plugin.github.AbstractGithubClientTest;
 import io.kestra.plugin.github.AbstractGithubSearchTask;
+import io.kestra.plugin.github.MockController;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +75,33 @@ public class SearchTest extends AbstractGithubClientTest {
         assertThat(result.getFirst().get("username"), is("kestra-io"));
     }
 
+    @Test
+    void testGraphqlEnrichment() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Search task = Search.builder()
+            .oauthToken(Property.ofValue("oauth-token"))
+            .endpoint(Property.ofValue(embeddedServer.getURI().toString()))
+            .query(Property.ofValue("kestra-io in:login"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .enrichment(Property.ofValue(AbstractGithubSearchTask.Enrichment.GRAPHQL))
+            .build();
+
+        AbstractGithubSearchTask.Output run = task.run(runContext);
+
+        assertThat(run.getRow().get("name"), is("Kestra GraphQL"));
+        assertThat(run.getRow().get("location"), is("Paris"));
+        assertThat(run.getRow().get("public_repositories"), is(42));
+        assertThat(run.getRow().get("type"), is("Organization"));
+
+        // the profile is now cached for the tasks using the same credentials
+        MockController.data = null;
+        run = task.run(runContextFactory.of());
+
+        assertThat(run.getRow().get("name"), is("Kestra GraphQL"));
+        assertThat(MockController.data, is(nullValue()));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getResult(AbstractGithubSearchTask.Output run) throws IOException {
         try (var inputStream = new BufferedInputStream(storageInterface.get(TenantService.MAIN_TENANT, null, run.getUri()))) {